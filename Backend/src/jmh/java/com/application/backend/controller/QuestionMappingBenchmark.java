@@ -0,0 +1,49 @@
+package com.application.backend.controller;
+
+import com.application.backend.dto.QuestionRequest;
+import com.application.backend.model.Question;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Request-to-entity mapping without a topic lookup, next to the per-call
+ * formatter construction the controller used to do.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class QuestionMappingBenchmark {
+    private final QuestionController controller = new QuestionController();
+    private QuestionRequest request;
+
+    @Setup
+    public void setUp() {
+        request = new QuestionRequest();
+        request.setLeetcodeNumber(42L);
+        request.setTitle("Trapping Rain Water");
+        request.setLink("https://leetcode.com/problems/trapping-rain-water");
+        request.setDifficulty(Question.Difficulty.HARD);
+        request.setStatus(Question.Status.IN_PROGRESS);
+        request.setIsImportant(true);
+        request.setReminderDateTime("2030-01-05T10:00");
+    }
+
+    @Benchmark
+    public Question mapToQuestion() {
+        return controller.mapToQuestion(request, null);
+    }
+
+    @Benchmark
+    public LocalDateTime parseWithFormatterPerCall() {
+        return LocalDateTime.parse(request.getReminderDateTime(), DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm"));
+    }
+}
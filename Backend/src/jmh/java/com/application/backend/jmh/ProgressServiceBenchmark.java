@@ -0,0 +1,42 @@
+package com.application.backend.jmh;
+
+import com.application.backend.dto.DailyCompletionDto;
+import com.application.backend.model.Progress;
+import com.application.backend.model.ProgressHistory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ProgressServiceBenchmark {
+
+    @Benchmark
+    public Progress updateStats(SeededApplication app) {
+        return app.progressService().updateStats();
+    }
+
+    @Benchmark
+    public List<ProgressHistory> progressHistoryYear(SeededApplication app) {
+        app.clearCaches();
+        LocalDate today = LocalDate.now();
+        return app.progressService().getProgressHistory(today.minusDays(364), today);
+    }
+
+    @Benchmark
+    public List<DailyCompletionDto> dailyCompletionsQuarter(SeededApplication app) {
+        app.clearCaches();
+        LocalDate today = LocalDate.now();
+        return app.progressService().getDailyCompletions(today.minusDays(89), today);
+    }
+
+    @Benchmark
+    public Progress cachedStats(SeededApplication app) {
+        return app.progressService().getStats();
+    }
+}
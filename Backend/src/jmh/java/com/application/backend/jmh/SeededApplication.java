@@ -0,0 +1,70 @@
+package com.application.backend.jmh;
+
+import com.application.backend.BackendApplication;
+import com.application.backend.cache.CacheRegistry;
+import com.application.backend.service.ProgressService;
+import com.application.backend.service.QuestionEventService;
+import com.application.backend.service.TopicService;
+import com.application.backend.support.DataSeeder;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * Boots the application against the embedded profile and seeds
+ * {@code questions} rows across 50 topics plus a year of history with gaps.
+ */
+@State(Scope.Benchmark)
+public class SeededApplication {
+    @Param({"1000", "10000", "100000"})
+    public int questions;
+
+    private ConfigurableApplicationContext context;
+    private ProgressService progressService;
+    private TopicService topicService;
+    private CacheRegistry cacheRegistry;
+
+    @Setup(Level.Trial)
+    public void start() {
+        context = new SpringApplicationBuilder(BackendApplication.class)
+                .web(WebApplicationType.NONE)
+                .profiles("embedded")
+                .properties("logging.level.root=WARN")
+                .run();
+        DataSeeder seeder = new DataSeeder(context.getBean(JdbcTemplate.class));
+        seeder.seedQuestions(questions, seeder.seedTopics(50, 500));
+        seeder.seedHistory(365, 3);
+
+        progressService = context.getBean(ProgressService.class);
+        topicService = context.getBean(TopicService.class);
+        cacheRegistry = context.getBean(CacheRegistry.class);
+        progressService.updateStats();
+        // Seeded rows bypass the services, so give them their status events
+        context.getBean(QuestionEventService.class).backfill();
+    }
+
+    @TearDown(Level.Trial)
+    public void stop() {
+        context.close();
+    }
+
+    public ProgressService progressService() {
+        return progressService;
+    }
+
+    public TopicService topicService() {
+        return topicService;
+    }
+
+    /** Read paths are cached; benchmarks of the underlying work clear the caches first. */
+    public void clearCaches() {
+        cacheRegistry.invalidateAll();
+    }
+}
@@ -0,0 +1,76 @@
+package com.application.backend.jmh;
+
+import com.application.backend.dto.TopicResponse;
+import com.application.backend.model.Question;
+import com.application.backend.model.Topic;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/** Serializes response bodies with the Jackson 3 mapper that Spring MVC writes them with. */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SerializationBenchmark {
+    @Param({"100", "1000", "10000"})
+    public int size;
+
+    private final JsonMapper mapper = JsonMapper.builder().build();
+    private List<Question> questions;
+    private List<TopicResponse> topics;
+
+    @Setup
+    public void setUp() {
+        LocalDateTime now = LocalDateTime.now();
+        List<Topic> topicEntities = new ArrayList<>();
+        topics = new ArrayList<>();
+        for (long i = 1; i <= 50; i++) {
+            Topic topic = new Topic();
+            topic.setId(i);
+            topic.setName("Topic " + i);
+            topic.setNotes("n".repeat(500));
+            topic.setCreatedAt(now);
+            topic.setUpdatedAt(now);
+            topicEntities.add(topic);
+            topics.add(new TopicResponse(i, topic.getName(), null, topic.getNotes(), now, now, 40, 20, 10, 10));
+        }
+        questions = new ArrayList<>(size);
+        Question.Status[] statuses = Question.Status.values();
+        for (long i = 1; i <= size; i++) {
+            Question question = new Question();
+            question.setId(i);
+            question.setTopic(topicEntities.get((int) (i % topicEntities.size())));
+            question.setLeetcodeNumber(i);
+            question.setTitle("Question " + i);
+            question.setLink("https://leetcode.com/problems/question-" + i);
+            question.setDifficulty(Question.Difficulty.MEDIUM);
+            question.setStatus(statuses[(int) (i % statuses.length)]);
+            question.setIsImportant(i % 5 == 0);
+            question.setReminderDateTime(i % 10 == 0 ? now.plusDays(i % 30) : null);
+            question.setCreatedAt(now);
+            question.setUpdatedAt(now);
+            questions.add(question);
+        }
+    }
+
+    @Benchmark
+    public byte[] questionList() {
+        return mapper.writeValueAsBytes(questions);
+    }
+
+    @Benchmark
+    public byte[] topicCards() {
+        return mapper.writeValueAsBytes(topics);
+    }
+}
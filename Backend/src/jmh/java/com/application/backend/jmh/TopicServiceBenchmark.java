@@ -0,0 +1,26 @@
+package com.application.backend.jmh;
+
+import com.application.backend.dto.TopicResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TopicServiceBenchmark {
+
+    @Benchmark
+    public List<TopicResponse> topicCards(SeededApplication app) {
+        app.clearCaches();
+        return app.topicService().getAllTopicsWithCounts();
+    }
+
+    @Benchmark
+    public List<TopicResponse> cachedTopicCards(SeededApplication app) {
+        return app.topicService().getAllTopicsWithCounts();
+    }
+}
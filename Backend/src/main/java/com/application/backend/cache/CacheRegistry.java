@@ -0,0 +1,89 @@
+package com.application.backend.cache;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Owns the named read caches so their limits come from one place and
+ * their statistics can be reported together.
+ */
+@Component
+public class CacheRegistry {
+    private final Map<String, ReadCache<?, ?>> caches = new ConcurrentHashMap<>();
+    private final int maxSize;
+    private final Duration ttl;
+    private final ObjectProvider<MeterRegistry> meterRegistry;
+
+    public CacheRegistry(@Value("${cache.read.max-size:256}") int maxSize,
+                         @Value("${cache.read.ttl:PT5M}") Duration ttl,
+                         ObjectProvider<MeterRegistry> meterRegistry) {
+        this.maxSize = maxSize;
+        this.ttl = ttl;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @SuppressWarnings("unchecked")
+    public <K, V> ReadCache<K, V> cache(String name) {
+        return (ReadCache<K, V>) caches.computeIfAbsent(name, n -> {
+            ReadCache<K, V> cache = new ReadCache<>(n, maxSize, ttl, Clock.systemUTC());
+            meterRegistry.ifAvailable(registry -> bindMetrics(registry, cache));
+            return cache;
+        });
+    }
+
+    public List<CacheStats> stats() {
+        return caches.values().stream()
+                .map(ReadCache::stats)
+                .sorted((a, b) -> a.getName().compareTo(b.getName()))
+                .toList();
+    }
+
+    public void invalidateAll() {
+        caches.values().forEach(ReadCache::invalidateAll);
+    }
+
+    /** Publishes a cache under Micrometer's standard cache meter names. */
+    private static void bindMetrics(MeterRegistry registry, ReadCache<?, ?> cache) {
+        Tags tags = Tags.of("cache", cache.getName());
+        Gauge.builder("cache.size", cache, ReadCache::size).tags(tags)
+                .description("Entries currently cached").register(registry);
+        FunctionCounter.builder("cache.gets", cache, ReadCache::hitCount).tags(tags).tag("result", "hit")
+                .description("Lookups answered from the cache").register(registry);
+        FunctionCounter.builder("cache.gets", cache, ReadCache::missCount).tags(tags).tag("result", "miss")
+                .description("Lookups that loaded from the database").register(registry);
+        FunctionCounter.builder("cache.evictions", cache, ReadCache::evictionCount).tags(tags)
+                .description("Entries dropped for size or age").register(registry);
+        FunctionCounter.builder("cache.invalidations", cache, ReadCache::invalidationCount).tags(tags)
+                .description("Entries dropped by writes").register(registry);
+    }
+
+    /**
+     * Runs an invalidation once the current transaction commits, so readers
+     * cannot re-cache the old rows between the write and the commit.
+     */
+    public static void afterCommit(Runnable invalidation) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    invalidation.run();
+                }
+            });
+        } else {
+            invalidation.run();
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package com.application.backend.cache;
+
+import java.util.List;
+
+public class CacheStats {
+    private final String name;
+    private final int size;
+    private final int maxSize;
+    private final long ttlSeconds;
+    private final long hits;
+    private final long misses;
+    private final long evictions;
+    private final long expirations;
+    private final long invalidations;
+    private final List<KeyStats> keys;
+
+    public CacheStats(String name, int size, int maxSize, long ttlSeconds, long hits, long misses,
+                      long evictions, long expirations, long invalidations, List<KeyStats> keys) {
+        this.name = name;
+        this.size = size;
+        this.maxSize = maxSize;
+        this.ttlSeconds = ttlSeconds;
+        this.hits = hits;
+        this.misses = misses;
+        this.evictions = evictions;
+        this.expirations = expirations;
+        this.invalidations = invalidations;
+        this.keys = keys;
+    }
+
+    public String getName() { return name; }
+    public int getSize() { return size; }
+    public int getMaxSize() { return maxSize; }
+    public long getTtlSeconds() { return ttlSeconds; }
+    public long getHits() { return hits; }
+    public long getMisses() { return misses; }
+    public long getEvictions() { return evictions; }
+    public long getExpirations() { return expirations; }
+    public long getInvalidations() { return invalidations; }
+    public List<KeyStats> getKeys() { return keys; }
+
+    public double getHitRate() {
+        long requests = hits + misses;
+        return requests == 0 ? 0.0 : (double) hits / requests;
+    }
+
+    public static class KeyStats {
+        private final String key;
+        private final long hits;
+        private final long ageSeconds;
+
+        public KeyStats(String key, long hits, long ageSeconds) {
+            this.key = key;
+            this.hits = hits;
+            this.ageSeconds = ageSeconds;
+        }
+
+        public String getKey() { return key; }
+        public long getHits() { return hits; }
+        public long getAgeSeconds() { return ageSeconds; }
+    }
+}
@@ -0,0 +1,150 @@
+package com.application.backend.cache;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * Size- and TTL-bounded cache for read results. Entries are evicted least
+ * recently used first once {@code maxSize} is reached and expire {@code ttl}
+ * after being loaded. Invalidation bumps a generation counter so a load that
+ * was already in flight cannot put a value computed before the write.
+ */
+public class ReadCache<K, V> {
+    private final String name;
+    private final int maxSize;
+    private final Duration ttl;
+    private final Clock clock;
+    private final LinkedHashMap<K, Entry<V>> entries = new LinkedHashMap<>(16, 0.75f, true);
+
+    private long generation;
+    private long hits;
+    private long misses;
+    private long evictions;
+    private long expirations;
+    private long invalidations;
+
+    public ReadCache(String name, int maxSize, Duration ttl, Clock clock) {
+        this.name = name;
+        this.maxSize = maxSize;
+        this.ttl = ttl;
+        this.clock = clock;
+    }
+
+    public V get(K key, Supplier<V> loader) {
+        long loadGeneration;
+        synchronized (this) {
+            Entry<V> entry = entries.get(key);
+            if (entry != null && !isExpired(entry)) {
+                hits++;
+                entry.hits++;
+                return entry.value;
+            }
+            if (entry != null) {
+                entries.remove(key);
+                expirations++;
+            }
+            misses++;
+            loadGeneration = generation;
+        }
+
+        V value = loader.get();
+
+        synchronized (this) {
+            if (loadGeneration == generation && value != null) {
+                entries.put(key, new Entry<>(value, clock.millis()));
+                evictOverflow();
+            }
+        }
+        return value;
+    }
+
+    public synchronized void invalidate(K key) {
+        generation++;
+        if (entries.remove(key) != null) {
+            invalidations++;
+        }
+    }
+
+    public synchronized void invalidateIf(Predicate<K> predicate) {
+        generation++;
+        Iterator<K> keys = entries.keySet().iterator();
+        while (keys.hasNext()) {
+            if (predicate.test(keys.next())) {
+                keys.remove();
+                invalidations++;
+            }
+        }
+    }
+
+    public synchronized void invalidateAll() {
+        generation++;
+        invalidations += entries.size();
+        entries.clear();
+    }
+
+    public synchronized CacheStats stats() {
+        long now = clock.millis();
+        List<CacheStats.KeyStats> keys = new ArrayList<>(entries.size());
+        for (Map.Entry<K, Entry<V>> e : entries.entrySet()) {
+            keys.add(new CacheStats.KeyStats(String.valueOf(e.getKey()), e.getValue().hits,
+                    (now - e.getValue().loadedAt) / 1000));
+        }
+        return new CacheStats(name, entries.size(), maxSize, ttl.toSeconds(),
+                hits, misses, evictions, expirations, invalidations, keys);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    public synchronized long hitCount() {
+        return hits;
+    }
+
+    public synchronized long missCount() {
+        return misses;
+    }
+
+    public synchronized long evictionCount() {
+        return evictions + expirations;
+    }
+
+    public synchronized long invalidationCount() {
+        return invalidations;
+    }
+
+    private boolean isExpired(Entry<V> entry) {
+        return clock.millis() - entry.loadedAt >= ttl.toMillis();
+    }
+
+    private void evictOverflow() {
+        Iterator<Entry<V>> eldest = entries.values().iterator();
+        while (entries.size() > maxSize && eldest.hasNext()) {
+            eldest.next();
+            eldest.remove();
+            evictions++;
+        }
+    }
+
+    private static final class Entry<V> {
+        private final V value;
+        private final long loadedAt;
+        private long hits;
+
+        private Entry(V value, long loadedAt) {
+            this.value = value;
+            this.loadedAt = loadedAt;
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package com.application.backend.cache;
+
+/**
+ * Counters of one Hibernate second-level cache region, or of the query
+ * cache as a whole when {@code region} is "query-cache".
+ */
+public class RegionStats {
+    private final String region;
+    private final long hits;
+    private final long misses;
+    private final long puts;
+
+    public RegionStats(String region, long hits, long misses, long puts) {
+        this.region = region;
+        this.hits = hits;
+        this.misses = misses;
+        this.puts = puts;
+    }
+
+    public String getRegion() { return region; }
+    public long getHits() { return hits; }
+    public long getMisses() { return misses; }
+    public long getPuts() { return puts; }
+
+    public double getHitRate() {
+        long requests = hits + misses;
+        return requests == 0 ? 0.0 : (double) hits / requests;
+    }
+}
@@ -0,0 +1,47 @@
+package com.application.backend.cache;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Reports on and clears Hibernate's second-level cache, which holds
+ * {@code Topic} and {@code Progress} rows and the cacheable topic queries.
+ * Hibernate keeps it in step with entity writes and JPQL bulk updates;
+ * native updates declare the tables they touch so they leave it alone.
+ * Counters stay at zero when {@code hibernate.generate_statistics} is off.
+ */
+@Component
+public class SecondLevelCache {
+    private static final String QUERY_CACHE = "query-cache";
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    public List<RegionStats> stats() {
+        Statistics statistics = sessionFactory().getStatistics();
+        List<RegionStats> regions = new ArrayList<>();
+        Arrays.stream(statistics.getSecondLevelCacheRegionNames()).sorted().forEach(name -> {
+            CacheRegionStatistics region = statistics.getDomainDataRegionStatistics(name);
+            regions.add(new RegionStats(name, region.getHitCount(), region.getMissCount(), region.getPutCount()));
+        });
+        regions.add(new RegionStats(QUERY_CACHE, statistics.getQueryCacheHitCount(),
+                statistics.getQueryCacheMissCount(), statistics.getQueryCachePutCount()));
+        return regions;
+    }
+
+    public void evictAll() {
+        sessionFactory().getCache().evictAll();
+    }
+
+    private SessionFactory sessionFactory() {
+        return entityManagerFactory.unwrap(SessionFactory.class);
+    }
+}
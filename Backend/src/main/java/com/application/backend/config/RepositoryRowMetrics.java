@@ -0,0 +1,74 @@
+package com.application.backend.config;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.data.domain.Slice;
+
+import java.lang.reflect.Method;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Records how many rows each repository method returned, next to Boot's
+ * {@code spring.data.repository.invocations} timer. Counts, flags, updates
+ * and streams are not row results and are skipped.
+ */
+class RepositoryRowMetrics implements MethodInterceptor {
+    private final ObjectProvider<MeterRegistry> meterRegistry;
+    private final String repository;
+    private final Map<Method, DistributionSummary> summaries = new ConcurrentHashMap<>();
+
+    RepositoryRowMetrics(ObjectProvider<MeterRegistry> meterRegistry, Class<?> repositoryInterface) {
+        this.meterRegistry = meterRegistry;
+        this.repository = repositoryInterface.getSimpleName();
+    }
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        Object result = invocation.proceed();
+        long rows = rowCount(invocation.getMethod(), result);
+        if (rows >= 0) {
+            DistributionSummary summary = summaries.computeIfAbsent(invocation.getMethod(), this::summary);
+            if (summary != null) {
+                summary.record(rows);
+            }
+        }
+        return result;
+    }
+
+    private DistributionSummary summary(Method method) {
+        MeterRegistry registry = meterRegistry.getIfAvailable();
+        if (registry == null) {
+            return null;
+        }
+        return DistributionSummary.builder("spring.data.repository.rows")
+                .description("Rows returned per repository call")
+                .baseUnit("rows")
+                .tag("repository", repository)
+                .tag("method", method.getName())
+                .register(registry);
+    }
+
+    private static long rowCount(Method method, Object result) {
+        if (result instanceof Collection<?> collection) {
+            return collection.size();
+        }
+        if (result instanceof Slice<?> slice) {
+            return slice.getNumberOfElements();
+        }
+        if (result instanceof Optional<?> optional) {
+            return optional.isPresent() ? 1 : 0;
+        }
+        Class<?> type = method.getReturnType();
+        if (type.isPrimitive() || Number.class.isAssignableFrom(type) || type == Boolean.class
+                || type == Void.class || java.util.stream.BaseStream.class.isAssignableFrom(type)) {
+            return -1;
+        }
+        return result != null ? 1 : 0;
+    }
+}
@@ -0,0 +1,59 @@
+package com.application.backend.config;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.time.Duration;
+
+/**
+ * With {@code spring.threads.virtual.enabled=true} Boot already runs Tomcat,
+ * the task executor and the task scheduler on virtual threads. Request
+ * concurrency is then no longer capped by a thread pool, so connection
+ * checkout is gated to the Hikari pool size here instead.
+ */
+@Configuration
+@ConditionalOnProperty(name = "spring.threads.virtual.enabled", havingValue = "true")
+public class VirtualThreadConfig {
+
+    @Bean
+    public static BeanPostProcessor connectionLimitingPostProcessor(Environment environment) {
+        int permits = environment.getProperty("spring.datasource.hikari.maximum-pool-size", Integer.class, 10);
+        Duration timeout = environment.getProperty("datasource.connection-limit.acquire-timeout",
+                Duration.class, Duration.ofSeconds(30));
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && !(bean instanceof ConnectionLimitingDataSource)) {
+                    return new ConnectionLimitingDataSource(dataSource, permits, timeout);
+                }
+                return bean;
+            }
+        };
+    }
+
+    @Bean
+    public MeterBinder connectionLimitMetrics(DataSource dataSource) {
+        return registry -> {
+            try {
+                if (!dataSource.isWrapperFor(ConnectionLimitingDataSource.class)) {
+                    return;
+                }
+                ConnectionLimitingDataSource limiter = dataSource.unwrap(ConnectionLimitingDataSource.class);
+                Gauge.builder("jdbc.connections.permits.available", limiter,
+                                ConnectionLimitingDataSource::getAvailablePermits)
+                        .description("Connection permits not currently held").register(registry);
+                Gauge.builder("jdbc.connections.permits.queued", limiter, ConnectionLimitingDataSource::getQueueLength)
+                        .description("Threads waiting for a connection permit").register(registry);
+            } catch (SQLException e) {
+                throw new IllegalStateException(e);
+            }
+        };
+    }
+}
@@ -0,0 +1,81 @@
+package com.application.backend.controller;
+
+import com.application.backend.dto.BulkImportResult;
+import com.application.backend.dto.BulkStatusRequest;
+import com.application.backend.dto.BulkStatusResult;
+import com.application.backend.service.QuestionService;
+import com.application.backend.service.QuestionTransferService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+@RestController
+@RequestMapping("/api/questions/bulk")
+@CrossOrigin("*")
+public class BulkQuestionController {
+    @Autowired
+    private QuestionTransferService questionTransferService;
+
+    @Autowired
+    private QuestionService questionService;
+
+    @PostMapping(value = "/import", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<BulkImportResult> importJson(InputStream body) throws IOException {
+        return ResponseEntity.ok(questionTransferService.importJson(body));
+    }
+
+    @PostMapping(value = "/import", consumes = "text/csv")
+    public ResponseEntity<BulkImportResult> importCsv(InputStream body) throws IOException {
+        return ResponseEntity.ok(questionTransferService.importCsv(body));
+    }
+
+    @PostMapping(value = "/import", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<BulkImportResult> importFile(@RequestParam("file") MultipartFile file) throws IOException {
+        try (InputStream body = file.getInputStream()) {
+            String name = file.getOriginalFilename();
+            if (name != null && name.toLowerCase().endsWith(".json")) {
+                return ResponseEntity.ok(questionTransferService.importJson(body));
+            }
+            return ResponseEntity.ok(questionTransferService.importCsv(body));
+        }
+    }
+
+    @PatchMapping("/status")
+    public ResponseEntity<BulkStatusResult> updateStatuses(@RequestBody BulkStatusRequest request) {
+        boolean hasIds = request.getIds() != null && !request.getIds().isEmpty();
+        if (request.getStatus() == null || (!hasIds && request.getTopicId() == null)) {
+            return ResponseEntity.badRequest().build();
+        }
+        return ResponseEntity.ok(questionService.updateStatuses(request));
+    }
+
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> export(@RequestParam(defaultValue = "csv") String format) {
+        switch (format.toLowerCase()) {
+            case "json":
+                return ResponseEntity.ok()
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"questions.json\"")
+                        .body(out -> questionTransferService.exportJson(out, false));
+            case "ndjson":
+                return ResponseEntity.ok()
+                        .contentType(MediaType.APPLICATION_NDJSON)
+                        .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"questions.ndjson\"")
+                        .body(out -> questionTransferService.exportJson(out, true));
+            case "csv":
+                return ResponseEntity.ok()
+                        .contentType(new MediaType("text", "csv"))
+                        .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"questions.csv\"")
+                        .body(questionTransferService::exportCsv);
+            default:
+                return ResponseEntity.badRequest().build();
+        }
+    }
+}
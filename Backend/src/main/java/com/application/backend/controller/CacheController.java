@@ -0,0 +1,39 @@
+package com.application.backend.controller;
+
+import com.application.backend.cache.CacheRegistry;
+import com.application.backend.cache.CacheStats;
+import com.application.backend.cache.RegionStats;
+import com.application.backend.cache.SecondLevelCache;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/cache")
+@CrossOrigin("*")
+public class CacheController {
+    @Autowired
+    private CacheRegistry cacheRegistry;
+
+    @Autowired
+    private SecondLevelCache secondLevelCache;
+
+    @GetMapping("/stats")
+    public ResponseEntity<List<CacheStats>> getStats() {
+        return ResponseEntity.ok(cacheRegistry.stats());
+    }
+
+    @GetMapping("/second-level")
+    public ResponseEntity<List<RegionStats>> getSecondLevelStats() {
+        return ResponseEntity.ok(secondLevelCache.stats());
+    }
+
+    @DeleteMapping
+    public ResponseEntity<Void> clear() {
+        cacheRegistry.invalidateAll();
+        secondLevelCache.evictAll();
+        return ResponseEntity.noContent().build();
+    }
+}
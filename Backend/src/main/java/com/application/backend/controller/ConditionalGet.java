@@ -0,0 +1,32 @@
+package com.application.backend.controller;
+
+import com.application.backend.service.DataVersion;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.context.request.NativeWebRequest;
+
+import java.util.function.Supplier;
+
+/**
+ * Answers a GET with 304 when the client's validators still match, and only
+ * otherwise runs the handler. Responses are marked no-cache so browsers
+ * always revalidate instead of reusing a stale copy heuristically.
+ */
+final class ConditionalGet {
+
+    private ConditionalGet() {}
+
+    static <T> ResponseEntity<T> ifModified(NativeWebRequest request, DataVersion version,
+                                            Supplier<ResponseEntity<T>> handler) {
+        HttpServletResponse response = request.getNativeResponse(HttpServletResponse.class);
+        if (response != null) {
+            response.setHeader(HttpHeaders.CACHE_CONTROL, "no-cache");
+        }
+        // Sets ETag / Last-Modified on the response and the 304 status when they match
+        if (request.checkNotModified(version.getEtag(), version.getLastModified())) {
+            return null;
+        }
+        return handler.get();
+    }
+}
@@ -0,0 +1,48 @@
+package com.application.backend.controller;
+
+import com.application.backend.service.LiveUpdateService;
+import com.application.backend.service.ProgressService;
+import com.application.backend.service.ReminderService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/stream")
+@CrossOrigin("*")
+public class LiveUpdateController {
+    @Autowired
+    private LiveUpdateService liveUpdateService;
+
+    @Autowired
+    private ProgressService progressService;
+
+    @Autowired
+    private ReminderService reminderService;
+
+    /**
+     * Server-sent events: {@code progress}, {@code today} and {@code upcoming}
+     * carry the latest value (the current one is sent on connect), {@code reminder}
+     * carries each question whose reminder falls due, and {@code resync} asks
+     * the client to refetch after it fell too far behind.
+     */
+    @GetMapping(produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> stream() {
+        Map<String, Object> initial = new LinkedHashMap<>();
+        initial.put("progress", progressService.getStats());
+        initial.put("today", progressService.getTodayProgress());
+        initial.put("upcoming", Collections.singletonMap("nextReminderAt", reminderService.getNextReminderTime()));
+        SseEmitter emitter = liveUpdateService.subscribe(initial);
+        if (emitter == null) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build();
+        }
+        return ResponseEntity.ok(emitter);
+    }
+}
@@ -2,9 +2,12 @@ package com.application.backend.controller;
 
 import com.application.backend.model.Progress;
 import com.application.backend.dto.DailyCompletionDto;
+import com.application.backend.service.DataVersionService;
+import com.application.backend.service.ProgressPipeline;
 import com.application.backend.service.ProgressService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.context.request.NativeWebRequest;
 import org.springframework.web.bind.annotation.*;
 
 import java.time.LocalDate;
@@ -16,10 +19,20 @@ public class ProgressController {
     @Autowired
     private ProgressService progressService;
 
+    @Autowired
+    private ProgressPipeline progressPipeline;
+
+    @Autowired
+    private DataVersionService dataVersionService;
+
     @GetMapping("/stats")
-    public ResponseEntity<Progress> getStats() {
-        Progress stats = progressService.getStats();
-        return ResponseEntity.ok(stats);
+    public ResponseEntity<Progress> getStats(@RequestParam(defaultValue = "false") boolean fresh,
+                                             NativeWebRequest webRequest) {
+        if (fresh) {
+            progressPipeline.flush();
+        }
+        return ConditionalGet.ifModified(webRequest, dataVersionService.progress(),
+                () -> ResponseEntity.ok(progressService.getStats()));
     }
 
     @PostMapping("/update")
@@ -29,23 +42,32 @@ public class ProgressController {
     }
 
     @GetMapping("/today")
-    public ResponseEntity<?> getToday() {
-        return ResponseEntity.ok(progressService.getTodayProgress());
+    public ResponseEntity<?> getToday(@RequestParam(defaultValue = "false") boolean fresh,
+                                      NativeWebRequest webRequest) {
+        if (fresh) {
+            progressPipeline.flush();
+        }
+        return ConditionalGet.ifModified(webRequest, dataVersionService.progress(),
+                () -> ResponseEntity.ok(progressService.getTodayProgress()));
     }
 
     @GetMapping("/history")
-    public ResponseEntity<?> getHistory(@RequestParam String startDate, @RequestParam String endDate) {
+    public ResponseEntity<?> getHistory(@RequestParam String startDate, @RequestParam String endDate,
+                                        NativeWebRequest webRequest) {
         LocalDate start = LocalDate.parse(startDate);
         LocalDate end = LocalDate.parse(endDate);
-        return ResponseEntity.ok(progressService.getProgressHistory(start, end));
+        return ConditionalGet.ifModified(webRequest, dataVersionService.progress(),
+                () -> ResponseEntity.ok(progressService.getProgressHistory(start, end)));
     }
 
     @GetMapping("/completions")
     public ResponseEntity<List<DailyCompletionDto>> getDailyCompletions(
             @RequestParam String startDate,
-            @RequestParam String endDate) {
+            @RequestParam String endDate,
+            NativeWebRequest webRequest) {
         LocalDate start = LocalDate.parse(startDate);
         LocalDate end = LocalDate.parse(endDate);
-        return ResponseEntity.ok(progressService.getDailyCompletions(start, end));
+        return ConditionalGet.ifModified(webRequest, dataVersionService.progress(),
+                () -> ResponseEntity.ok(progressService.getDailyCompletions(start, end)));
     }
 }
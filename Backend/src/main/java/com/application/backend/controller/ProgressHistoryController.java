@@ -1,8 +1,14 @@
 package com.application.backend.controller;
 
+import com.application.backend.dto.ProgressFactBucket;
 import com.application.backend.model.ProgressHistory;
+import com.application.backend.model.Question;
+import com.application.backend.service.DataVersionService;
+import com.application.backend.service.ProgressFactService;
 import com.application.backend.service.ProgressService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.context.request.NativeWebRequest;
 import org.springframework.web.bind.annotation.*;
 
 import java.time.LocalDate;
@@ -16,6 +22,12 @@ public class ProgressHistoryController {
     @Autowired
     private ProgressService progressService;
 
+    @Autowired
+    private ProgressFactService progressFactService;
+
+    @Autowired
+    private DataVersionService dataVersionService;
+
     // Kept only for any legacy callers; path changed to avoid conflicts.
     @GetMapping("/today")
     public ProgressHistory getTodayProgress() {
@@ -30,4 +42,22 @@ public class ProgressHistoryController {
         LocalDate end = endDate != null ? LocalDate.parse(endDate) : LocalDate.now();
         return progressService.getProgressHistory(start, end);
     }
+
+    @GetMapping("/facts")
+    public ResponseEntity<List<ProgressFactBucket>> getProgressFacts(
+            @RequestParam(required = false) String startDate,
+            @RequestParam(required = false) String endDate,
+            @RequestParam(defaultValue = "DAY") ProgressFactService.Granularity granularity,
+            @RequestParam(defaultValue = "TOTAL") ProgressFactService.Dimension groupBy,
+            @RequestParam(required = false) Long topicId,
+            @RequestParam(required = false) Question.Difficulty difficulty,
+            NativeWebRequest webRequest) {
+        LocalDate start = startDate != null ? LocalDate.parse(startDate) : LocalDate.now().minusDays(6);
+        LocalDate end = endDate != null ? LocalDate.parse(endDate) : LocalDate.now();
+        if (start.isAfter(end)) {
+            return ResponseEntity.badRequest().build();
+        }
+        return ConditionalGet.ifModified(webRequest, dataVersionService.progress(), () -> ResponseEntity.ok(
+                progressFactService.getFacts(start, end, granularity, groupBy, topicId, difficulty)));
+    }
 }
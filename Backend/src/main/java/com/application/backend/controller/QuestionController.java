@@ -1,14 +1,19 @@
 package com.application.backend.controller;
 
 import com.application.backend.model.Question;
+import com.application.backend.model.QuestionStatusEvent;
 import com.application.backend.model.Topic;
+import com.application.backend.dto.QuestionList;
+import com.application.backend.dto.QuestionPage;
 import com.application.backend.dto.QuestionRequest;
+import com.application.backend.service.QuestionEventService;
 import com.application.backend.service.QuestionService;
+import com.application.backend.service.DataVersionService;
 import com.application.backend.service.TopicService;
-import com.application.backend.service.ProgressService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.context.request.NativeWebRequest;
 import org.springframework.web.bind.annotation.*;
 
 import java.time.LocalDateTime;
@@ -19,36 +24,73 @@ import java.util.List;
 @RequestMapping("/api/questions")
 @CrossOrigin("*")
 public class QuestionController {
+    private static final DateTimeFormatter REMINDER_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm");
+
     @Autowired
     private QuestionService questionService;
 
     @Autowired
-    private ProgressService progressService;
+    private TopicService topicService;
 
     @Autowired
-    private TopicService topicService;
+    private QuestionEventService questionEventService;
+
+    @Autowired
+    private DataVersionService dataVersionService;
 
     @GetMapping
-    public ResponseEntity<List<Question>> getAllQuestions() {
-        return ResponseEntity.ok(questionService.getAllQuestions());
+    public ResponseEntity<List<Question>> getAllQuestions(NativeWebRequest webRequest) {
+        return ConditionalGet.ifModified(webRequest, dataVersionService.catalog(),
+                () -> ResponseEntity.ok(questionService.getAllQuestions()));
+    }
+
+    /** Topics referenced by id; add {@code include=topics} to side-load each one once. */
+    @GetMapping(params = "view=compact")
+    public ResponseEntity<QuestionList> getQuestionList(@RequestParam(defaultValue = "") String include, NativeWebRequest webRequest) {
+        return ConditionalGet.ifModified(webRequest, dataVersionService.catalog(),
+                () -> ResponseEntity.ok(questionService.getQuestionList("topics".equals(include))));
+    }
+
+    @GetMapping("/page")
+    public ResponseEntity<QuestionPage> getQuestionPage(
+            @RequestParam(required = false) Long cursor,
+            @RequestParam(required = false) Integer size,
+            @RequestParam(required = false) Long topicId,
+            @RequestParam(required = false) Question.Status status,
+            @RequestParam(required = false) Question.Difficulty difficulty,
+            @RequestParam(required = false) Boolean important,
+            @RequestParam(defaultValue = "") String include,
+            NativeWebRequest webRequest) {
+        return ConditionalGet.ifModified(webRequest, dataVersionService.catalog(), () -> {
+            QuestionPage page = questionService.getQuestionPage(topicId, cursor, size, status, difficulty, important);
+            return ResponseEntity.ok("topics".equals(include) ? questionService.withTopics(page) : page);
+        });
     }
 
     @GetMapping("/{id}")
-    public ResponseEntity<Question> getQuestionById(@PathVariable Long id) {
-        return questionService.getQuestionById(id)
-                .map(ResponseEntity::ok)
-                .orElse(ResponseEntity.notFound().build());
+    public ResponseEntity<Question> getQuestionById(@PathVariable Long id, NativeWebRequest webRequest) {
+        return ConditionalGet.ifModified(webRequest, dataVersionService.catalog(),
+                () -> questionService.getQuestionById(id)
+                        .map(ResponseEntity::ok)
+                        .orElse(ResponseEntity.notFound().build()));
     }
 
     @GetMapping("/topic/{topicId}")
-    public ResponseEntity<List<Question>> getQuestionsByTopic(@PathVariable Long topicId) {
-        return ResponseEntity.ok(questionService.getQuestionsByTopic(topicId));
+    public ResponseEntity<List<Question>> getQuestionsByTopic(@PathVariable Long topicId, NativeWebRequest webRequest) {
+        return ConditionalGet.ifModified(webRequest, dataVersionService.catalog(),
+                () -> ResponseEntity.ok(questionService.getQuestionsByTopic(topicId)));
+    }
+
+    @GetMapping(value = "/topic/{topicId}", params = "view=compact")
+    public ResponseEntity<QuestionList> getQuestionListByTopic(@PathVariable Long topicId, @RequestParam(defaultValue = "") String include,
+                                                               NativeWebRequest webRequest) {
+        return ConditionalGet.ifModified(webRequest, dataVersionService.catalog(),
+                () -> ResponseEntity.ok(questionService.getQuestionListByTopic(topicId, "topics".equals(include))));
     }
 
     @PostMapping
     public ResponseEntity<Question> createQuestion(@RequestBody QuestionRequest request) {
         Question savedQuestion = questionService.createQuestion(mapToQuestion(request, null));
-        progressService.updateStats();
         return ResponseEntity.status(HttpStatus.CREATED).body(savedQuestion);
     }
 
@@ -57,7 +99,6 @@ public class QuestionController {
         Question existing = questionService.getQuestionById(id)
                 .orElseThrow(() -> new RuntimeException("Question not found"));
         Question updatedQuestion = questionService.updateQuestion(id, mapToQuestion(request, existing));
-        progressService.updateStats();
         return ResponseEntity.ok(updatedQuestion);
     }
 
@@ -69,7 +110,6 @@ public class QuestionController {
             question.setStatus(request.getStatus());
         }
         Question saved = questionService.updateQuestion(id, question);
-        progressService.updateStats();
         return ResponseEntity.ok(saved);
     }
 
@@ -83,26 +123,42 @@ public class QuestionController {
     }
 
     @GetMapping("/{id}/reminders")
-    public ResponseEntity<Question> getQuestionReminder(@PathVariable Long id) {
-        return questionService.getQuestionById(id)
-                .filter(q -> q.getReminderDateTime() != null)
-                .map(ResponseEntity::ok)
-                .orElse(ResponseEntity.notFound().build());
+    public ResponseEntity<Question> getQuestionReminder(@PathVariable Long id, NativeWebRequest webRequest) {
+        return ConditionalGet.ifModified(webRequest, dataVersionService.catalog(),
+                () -> questionService.getQuestionById(id)
+                        .filter(q -> q.getReminderDateTime() != null)
+                        .map(ResponseEntity::ok)
+                        .orElse(ResponseEntity.notFound().build()));
+    }
+
+    @GetMapping("/{id}/status-events")
+    public ResponseEntity<List<QuestionStatusEvent>> getStatusEvents(@PathVariable Long id, NativeWebRequest webRequest) {
+        return ConditionalGet.ifModified(webRequest, dataVersionService.catalog(),
+                () -> ResponseEntity.ok(questionEventService.getStatusEvents(id)));
     }
 
     @GetMapping("/recent/completed")
-    public ResponseEntity<List<Question>> getRecentCompleted(@RequestParam(defaultValue = "5") int limit) {
-        return ResponseEntity.ok(questionService.getRecentCompleted(limit));
+    public ResponseEntity<List<Question>> getRecentCompleted(@RequestParam(defaultValue = "5") int limit,
+                                                             NativeWebRequest webRequest) {
+        return ConditionalGet.ifModified(webRequest, dataVersionService.catalog(),
+                () -> ResponseEntity.ok(questionService.getRecentCompleted(limit)));
+    }
+
+    @GetMapping(value = "/recent/completed", params = "view=compact")
+    public ResponseEntity<QuestionList> getRecentCompletedList(@RequestParam(defaultValue = "5") int limit,
+                                                               @RequestParam(defaultValue = "") String include,
+                                                               NativeWebRequest webRequest) {
+        return ConditionalGet.ifModified(webRequest, dataVersionService.catalog(),
+                () -> ResponseEntity.ok(questionService.getRecentCompletedList(limit, "topics".equals(include))));
     }
 
     @DeleteMapping("/{id}")
     public ResponseEntity<Void> deleteQuestion(@PathVariable Long id) {
         questionService.deleteQuestion(id);
-        progressService.updateStats();
         return ResponseEntity.noContent().build();
     }
 
-    private Question mapToQuestion(QuestionRequest request, Question existing) {
+    Question mapToQuestion(QuestionRequest request, Question existing) {
         Question question = existing != null ? existing : new Question();
         if (request.getTopicId() != null) {
             Topic topic = topicService.getTopicById(request.getTopicId())
@@ -123,8 +179,7 @@ public class QuestionController {
         // Parse datetime string to LocalDateTime
         if (request.getReminderDateTime() != null && !request.getReminderDateTime().isEmpty()) {
             try {
-                DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm");
-                question.setReminderDateTime(LocalDateTime.parse(request.getReminderDateTime(), formatter));
+                question.setReminderDateTime(LocalDateTime.parse(request.getReminderDateTime(), REMINDER_FORMAT));
             } catch (Exception e) {
                 question.setReminderDateTime(null);
             }
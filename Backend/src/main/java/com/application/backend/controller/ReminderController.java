@@ -1,37 +1,50 @@
 package com.application.backend.controller;
 
+import com.application.backend.dto.QuestionList;
 import com.application.backend.model.Question;
-import com.application.backend.service.QuestionService;
+import com.application.backend.service.DataVersionService;
+import com.application.backend.service.ReminderService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.context.request.NativeWebRequest;
 import org.springframework.web.bind.annotation.*;
 
-import java.time.LocalDateTime;
 import java.util.List;
-import java.util.stream.Collectors;
 
 @RestController
 @RequestMapping("/api/reminders")
 @CrossOrigin("*")
 public class ReminderController {
     @Autowired
-    private QuestionService questionService;
+    private ReminderService reminderService;
+
+    @Autowired
+    private DataVersionService dataVersionService;
 
     @GetMapping
-    public ResponseEntity<List<Question>> getAllReminders() {
-        List<Question> reminders = questionService.getAllQuestions().stream()
-                .filter(q -> q.getReminderDateTime() != null)
-                .collect(Collectors.toList());
-        return ResponseEntity.ok(reminders);
+    public ResponseEntity<List<Question>> getAllReminders(NativeWebRequest webRequest) {
+        return ConditionalGet.ifModified(webRequest, dataVersionService.catalog(),
+                () -> ResponseEntity.ok(reminderService.getAllReminders()));
+    }
+
+    @GetMapping(params = "view=compact")
+    public ResponseEntity<QuestionList> getReminderList(@RequestParam(defaultValue = "") String include, NativeWebRequest webRequest) {
+        return ConditionalGet.ifModified(webRequest, dataVersionService.catalog(),
+                () -> ResponseEntity.ok(reminderService.getReminderList("topics".equals(include))));
     }
 
     @GetMapping("/upcoming")
-    public ResponseEntity<List<Question>> getUpcomingReminders() {
-        LocalDateTime now = LocalDateTime.now();
-        List<Question> upcomingReminders = questionService.getAllQuestions().stream()
-                .filter(q -> q.getReminderDateTime() != null && q.getReminderDateTime().isAfter(now))
-                .sorted((q1, q2) -> q1.getReminderDateTime().compareTo(q2.getReminderDateTime()))
-                .collect(Collectors.toList());
-        return ResponseEntity.ok(upcomingReminders);
+    public ResponseEntity<List<Question>> getUpcomingReminders(@RequestParam(defaultValue = "100") int limit,
+                                                               NativeWebRequest webRequest) {
+        return ConditionalGet.ifModified(webRequest, dataVersionService.upcomingReminders(),
+                () -> ResponseEntity.ok(reminderService.getUpcomingReminders(limit)));
+    }
+
+    @GetMapping(value = "/upcoming", params = "view=compact")
+    public ResponseEntity<QuestionList> getUpcomingReminderList(@RequestParam(defaultValue = "100") int limit,
+                                                                @RequestParam(defaultValue = "") String include,
+                                                                NativeWebRequest webRequest) {
+        return ConditionalGet.ifModified(webRequest, dataVersionService.upcomingReminders(),
+                () -> ResponseEntity.ok(reminderService.getUpcomingReminderList(limit, "topics".equals(include))));
     }
 }
@@ -0,0 +1,43 @@
+package com.application.backend.controller;
+
+import com.application.backend.dto.ReviewItem;
+import com.application.backend.dto.ReviewRequest;
+import com.application.backend.model.ReviewSchedule;
+import com.application.backend.service.ReviewService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/reviews")
+@CrossOrigin("*")
+public class ReviewController {
+    @Autowired
+    private ReviewService reviewService;
+
+    @GetMapping("/next")
+    public ResponseEntity<List<ReviewItem>> getNextDue(@RequestParam(defaultValue = "20") int limit) {
+        return ResponseEntity.ok(reviewService.getNextDue(limit));
+    }
+
+    @GetMapping("/today")
+    public ResponseEntity<List<ReviewItem>> getDueToday(@RequestParam(defaultValue = "100") int limit) {
+        return ResponseEntity.ok(reviewService.getDueToday(limit));
+    }
+
+    @PostMapping("/{questionId}")
+    public ResponseEntity<ReviewSchedule> recordReview(@PathVariable Long questionId,
+                                                       @RequestBody ReviewRequest request) {
+        Integer quality = request.getQuality();
+        if (quality == null || quality < 0 || quality > 5) {
+            return ResponseEntity.badRequest().build();
+        }
+        // Only DONE questions are scheduled for review
+        return reviewService.recordReview(questionId, quality)
+                .map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.status(HttpStatus.CONFLICT).build());
+    }
+}
@@ -0,0 +1,25 @@
+package com.application.backend.controller;
+
+import com.application.backend.dto.SearchHit;
+import com.application.backend.dto.SearchPage;
+import com.application.backend.service.SearchService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/search")
+@CrossOrigin("*")
+public class SearchController {
+    @Autowired
+    private SearchService searchService;
+
+    @GetMapping
+    public ResponseEntity<SearchPage> search(
+            @RequestParam String q,
+            @RequestParam(required = false) SearchHit.Type type,
+            @RequestParam(required = false) Integer page,
+            @RequestParam(required = false) Integer size) {
+        return ResponseEntity.ok(searchService.search(q, type, page, size));
+    }
+}
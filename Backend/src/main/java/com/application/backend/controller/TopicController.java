@@ -1,13 +1,19 @@
 package com.application.backend.controller;
 
+import com.application.backend.dto.QuestionList;
+import com.application.backend.dto.QuestionPage;
 import com.application.backend.dto.TopicResponse;
 import com.application.backend.model.Topic;
 import com.application.backend.model.Question;
+import com.application.backend.model.TopicProgress;
 import com.application.backend.service.TopicService;
+import com.application.backend.service.DataVersionService;
 import com.application.backend.service.QuestionService;
+import com.application.backend.service.TopicProgressService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.context.request.NativeWebRequest;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.Map;
@@ -23,16 +29,32 @@ public class TopicController {
     @Autowired
     private QuestionService questionService;
 
+    @Autowired
+    private TopicProgressService topicProgressService;
+
+    @Autowired
+    private DataVersionService dataVersionService;
+
     @GetMapping
-    public ResponseEntity<List<TopicResponse>> getAllTopics() {
-        return ResponseEntity.ok(topicService.getAllTopicsWithCounts());
+    public ResponseEntity<List<TopicResponse>> getAllTopics(NativeWebRequest webRequest) {
+        return ConditionalGet.ifModified(webRequest, dataVersionService.catalog(),
+                () -> ResponseEntity.ok(topicService.getAllTopicsWithCounts()));
     }
 
     @GetMapping("/{id}")
-    public ResponseEntity<Topic> getTopicById(@PathVariable Long id) {
-        return topicService.getTopicById(id)
-                .map(ResponseEntity::ok)
-                .orElse(ResponseEntity.notFound().build());
+    public ResponseEntity<Topic> getTopicById(@PathVariable Long id, NativeWebRequest webRequest) {
+        return ConditionalGet.ifModified(webRequest, dataVersionService.catalog(),
+                () -> topicService.getTopicById(id)
+                        .map(ResponseEntity::ok)
+                        .orElse(ResponseEntity.notFound().build()));
+    }
+
+    @GetMapping("/{id}/progress")
+    public ResponseEntity<TopicProgress> getTopicProgress(@PathVariable Long id, NativeWebRequest webRequest) {
+        return ConditionalGet.ifModified(webRequest, dataVersionService.catalog(),
+                () -> topicProgressService.getTopicProgress(id)
+                        .map(ResponseEntity::ok)
+                        .orElse(ResponseEntity.notFound().build()));
     }
 
     @PostMapping
@@ -59,7 +81,28 @@ public class TopicController {
     }
 
     @GetMapping("/{id}/questions")
-    public ResponseEntity<List<Question>> getQuestionsByTopic(@PathVariable Long id) {
-        return ResponseEntity.ok(questionService.getQuestionsByTopic(id));
+    public ResponseEntity<List<Question>> getQuestionsByTopic(@PathVariable Long id, NativeWebRequest webRequest) {
+        return ConditionalGet.ifModified(webRequest, dataVersionService.catalog(),
+                () -> ResponseEntity.ok(questionService.getQuestionsByTopic(id)));
+    }
+
+    @GetMapping(value = "/{id}/questions", params = "view=compact")
+    public ResponseEntity<QuestionList> getQuestionListByTopic(@PathVariable Long id, @RequestParam(defaultValue = "") String include,
+                                                               NativeWebRequest webRequest) {
+        return ConditionalGet.ifModified(webRequest, dataVersionService.catalog(),
+                () -> ResponseEntity.ok(questionService.getQuestionListByTopic(id, "topics".equals(include))));
+    }
+
+    @GetMapping("/{id}/questions/page")
+    public ResponseEntity<QuestionPage> getQuestionPageByTopic(
+            @PathVariable Long id,
+            @RequestParam(required = false) Long cursor,
+            @RequestParam(required = false) Integer size,
+            @RequestParam(required = false) Question.Status status,
+            @RequestParam(required = false) Question.Difficulty difficulty,
+            @RequestParam(required = false) Boolean important,
+            NativeWebRequest webRequest) {
+        return ConditionalGet.ifModified(webRequest, dataVersionService.catalog(), () -> ResponseEntity.ok(
+                questionService.getQuestionPage(id, cursor, size, status, difficulty, important)));
     }
 }
@@ -0,0 +1,40 @@
+package com.application.backend.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class BulkImportResult {
+    private static final int MAX_ERRORS = 100;
+
+    private long received;
+    private long imported;
+    private long skipped;
+    private List<String> errors = new ArrayList<>();
+
+    public void recordImported(long count) {
+        imported += count;
+    }
+
+    public void recordReceived() {
+        received++;
+    }
+
+    public void recordSkipped(long row, String reason) {
+        skipped++;
+        if (errors.size() < MAX_ERRORS) {
+            errors.add("row " + row + ": " + reason);
+        }
+    }
+
+    public long getReceived() { return received; }
+    public void setReceived(long received) { this.received = received; }
+
+    public long getImported() { return imported; }
+    public void setImported(long imported) { this.imported = imported; }
+
+    public long getSkipped() { return skipped; }
+    public void setSkipped(long skipped) { this.skipped = skipped; }
+
+    public List<String> getErrors() { return errors; }
+    public void setErrors(List<String> errors) { this.errors = errors; }
+}
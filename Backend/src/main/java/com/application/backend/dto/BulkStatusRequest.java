@@ -0,0 +1,28 @@
+package com.application.backend.dto;
+
+import com.application.backend.model.Question;
+
+import java.util.List;
+
+/**
+ * Selects questions by id and/or topic, optionally only those currently in
+ * {@code fromStatus}, and moves them to {@code status}.
+ */
+public class BulkStatusRequest {
+    private List<Long> ids;
+    private Long topicId;
+    private Question.Status fromStatus;
+    private Question.Status status;
+
+    public List<Long> getIds() { return ids; }
+    public void setIds(List<Long> ids) { this.ids = ids; }
+
+    public Long getTopicId() { return topicId; }
+    public void setTopicId(Long topicId) { this.topicId = topicId; }
+
+    public Question.Status getFromStatus() { return fromStatus; }
+    public void setFromStatus(Question.Status fromStatus) { this.fromStatus = fromStatus; }
+
+    public Question.Status getStatus() { return status; }
+    public void setStatus(Question.Status status) { this.status = status; }
+}
@@ -0,0 +1,32 @@
+package com.application.backend.dto;
+
+import com.application.backend.model.Question;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+public class BulkStatusResult {
+    private Question.Status status;
+    private int updated;
+    private Map<Question.Status, Integer> previous = new EnumMap<>(Question.Status.class);
+
+    public BulkStatusResult() {}
+
+    public BulkStatusResult(Question.Status status) {
+        this.status = status;
+    }
+
+    public void recordUpdated(Question.Status from) {
+        updated++;
+        previous.merge(from, 1, Integer::sum);
+    }
+
+    public Question.Status getStatus() { return status; }
+    public void setStatus(Question.Status status) { this.status = status; }
+
+    public int getUpdated() { return updated; }
+    public void setUpdated(int updated) { this.updated = updated; }
+
+    public Map<Question.Status, Integer> getPrevious() { return previous; }
+    public void setPrevious(Map<Question.Status, Integer> previous) { this.previous = previous; }
+}
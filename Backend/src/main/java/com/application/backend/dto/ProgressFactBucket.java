@@ -0,0 +1,58 @@
+package com.application.backend.dto;
+
+import com.application.backend.model.Question;
+
+import java.time.LocalDate;
+
+/**
+ * Status counts at the end of one period for one group; topicId and
+ * difficulty are null when the series is not broken down by them.
+ */
+public class ProgressFactBucket {
+    private LocalDate periodStart;
+    private LocalDate periodEnd;
+    private Long topicId;
+    private Question.Difficulty difficulty;
+    private int totalQuestions;
+    private int completedQuestions;
+    private int inProgressQuestions;
+    private int todoQuestions;
+
+    public ProgressFactBucket() {}
+
+    public ProgressFactBucket(LocalDate periodStart, LocalDate periodEnd, Long topicId, Question.Difficulty difficulty,
+                              int totalQuestions, int completedQuestions, int inProgressQuestions, int todoQuestions) {
+        this.periodStart = periodStart;
+        this.periodEnd = periodEnd;
+        this.topicId = topicId;
+        this.difficulty = difficulty;
+        this.totalQuestions = totalQuestions;
+        this.completedQuestions = completedQuestions;
+        this.inProgressQuestions = inProgressQuestions;
+        this.todoQuestions = todoQuestions;
+    }
+
+    public LocalDate getPeriodStart() { return periodStart; }
+    public void setPeriodStart(LocalDate periodStart) { this.periodStart = periodStart; }
+
+    public LocalDate getPeriodEnd() { return periodEnd; }
+    public void setPeriodEnd(LocalDate periodEnd) { this.periodEnd = periodEnd; }
+
+    public Long getTopicId() { return topicId; }
+    public void setTopicId(Long topicId) { this.topicId = topicId; }
+
+    public Question.Difficulty getDifficulty() { return difficulty; }
+    public void setDifficulty(Question.Difficulty difficulty) { this.difficulty = difficulty; }
+
+    public int getTotalQuestions() { return totalQuestions; }
+    public void setTotalQuestions(int totalQuestions) { this.totalQuestions = totalQuestions; }
+
+    public int getCompletedQuestions() { return completedQuestions; }
+    public void setCompletedQuestions(int completedQuestions) { this.completedQuestions = completedQuestions; }
+
+    public int getInProgressQuestions() { return inProgressQuestions; }
+    public void setInProgressQuestions(int inProgressQuestions) { this.inProgressQuestions = inProgressQuestions; }
+
+    public int getTodoQuestions() { return todoQuestions; }
+    public void setTodoQuestions(int todoQuestions) { this.todoQuestions = todoQuestions; }
+}
@@ -0,0 +1,46 @@
+package com.application.backend.dto;
+
+import com.application.backend.model.Question;
+
+/**
+ * One question in a bulk import. The topic may be given by id or by name;
+ * reminderDateTime uses the same yyyy-MM-dd'T'HH:mm format as QuestionRequest.
+ */
+public class QuestionImportRow {
+    private Long topicId;
+    private String topic;
+    private Long leetcodeNumber;
+    private String title;
+    private String link;
+    private Question.Difficulty difficulty;
+    private Question.Status status;
+    private Boolean isImportant;
+    private String reminderDateTime;
+
+    public Long getTopicId() { return topicId; }
+    public void setTopicId(Long topicId) { this.topicId = topicId; }
+
+    public String getTopic() { return topic; }
+    public void setTopic(String topic) { this.topic = topic; }
+
+    public Long getLeetcodeNumber() { return leetcodeNumber; }
+    public void setLeetcodeNumber(Long leetcodeNumber) { this.leetcodeNumber = leetcodeNumber; }
+
+    public String getTitle() { return title; }
+    public void setTitle(String title) { this.title = title; }
+
+    public String getLink() { return link; }
+    public void setLink(String link) { this.link = link; }
+
+    public Question.Difficulty getDifficulty() { return difficulty; }
+    public void setDifficulty(Question.Difficulty difficulty) { this.difficulty = difficulty; }
+
+    public Question.Status getStatus() { return status; }
+    public void setStatus(Question.Status status) { this.status = status; }
+
+    public Boolean getIsImportant() { return isImportant; }
+    public void setIsImportant(Boolean isImportant) { this.isImportant = isImportant; }
+
+    public String getReminderDateTime() { return reminderDateTime; }
+    public void setReminderDateTime(String reminderDateTime) { this.reminderDateTime = reminderDateTime; }
+}
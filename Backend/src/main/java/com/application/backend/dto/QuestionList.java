@@ -0,0 +1,57 @@
+package com.application.backend.dto;
+
+import com.application.backend.model.Question;
+import com.application.backend.model.Topic;
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Compact question listing: each question carries its topic id, and each
+ * topic appears at most once in {@code topics}, keyed by id, when
+ * side-loading was requested.
+ */
+public class QuestionList {
+    private List<QuestionSummary> questions;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Map<Long, Topic> topics;
+
+    public QuestionList() {}
+
+    public QuestionList(List<QuestionSummary> questions, Map<Long, Topic> topics) {
+        this.questions = questions;
+        this.topics = topics;
+    }
+
+    public static QuestionList of(List<Question> questions) {
+        return new QuestionList(questions.stream().map(QuestionSummary::from).toList(), null);
+    }
+
+    public List<Long> topicIds() {
+        return topicIds(questions);
+    }
+
+    /** Side-loads the given topics, keyed by id. */
+    public void sideLoad(Iterable<Topic> loaded) {
+        this.topics = byId(loaded);
+    }
+
+    // Shared with QuestionPage so both listings side-load the same way
+    static List<Long> topicIds(List<QuestionSummary> questions) {
+        return questions.stream().map(QuestionSummary::getTopicId).distinct().toList();
+    }
+
+    static Map<Long, Topic> byId(Iterable<Topic> loaded) {
+        Map<Long, Topic> byId = new TreeMap<>();
+        loaded.forEach(topic -> byId.put(topic.getId(), topic));
+        return byId;
+    }
+
+    public List<QuestionSummary> getQuestions() { return questions; }
+    public void setQuestions(List<QuestionSummary> questions) { this.questions = questions; }
+
+    public Map<Long, Topic> getTopics() { return topics; }
+    public void setTopics(Map<Long, Topic> topics) { this.topics = topics; }
+}
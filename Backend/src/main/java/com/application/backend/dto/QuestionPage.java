@@ -0,0 +1,44 @@
+package com.application.backend.dto;
+
+import com.application.backend.model.Topic;
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * One page of a keyset-paginated question listing. Pass {@code nextCursor}
+ * back as {@code cursor} to fetch the following page; it is null on the last page.
+ * {@code topics} is only present when side-loading was requested.
+ */
+public class QuestionPage {
+    private List<QuestionSummary> items;
+    private Long nextCursor;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Map<Long, Topic> topics;
+
+    public QuestionPage() {}
+
+    public QuestionPage(List<QuestionSummary> items, Long nextCursor) {
+        this.items = items;
+        this.nextCursor = nextCursor;
+    }
+
+    public List<QuestionSummary> getItems() { return items; }
+    public void setItems(List<QuestionSummary> items) { this.items = items; }
+
+    public Long getNextCursor() { return nextCursor; }
+    public void setNextCursor(Long nextCursor) { this.nextCursor = nextCursor; }
+
+    public List<Long> topicIds() {
+        return QuestionList.topicIds(items);
+    }
+
+    /** Side-loads the given topics, keyed by id. */
+    public void sideLoad(Iterable<Topic> loaded) {
+        this.topics = QuestionList.byId(loaded);
+    }
+
+    public Map<Long, Topic> getTopics() { return topics; }
+    public void setTopics(Map<Long, Topic> topics) { this.topics = topics; }
+}
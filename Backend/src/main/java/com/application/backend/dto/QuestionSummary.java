@@ -0,0 +1,81 @@
+package com.application.backend.dto;
+
+import com.application.backend.model.Question;
+import java.time.LocalDateTime;
+
+/**
+ * List view of a question that references its topic by id instead of
+ * embedding the full topic entity.
+ */
+public class QuestionSummary {
+    private Long id;
+    private Long topicId;
+    private Long leetcodeNumber;
+    private String title;
+    private String link;
+    private Question.Difficulty difficulty;
+    private Question.Status status;
+    private Boolean isImportant;
+    private LocalDateTime reminderDateTime;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+
+    public QuestionSummary() {}
+
+    public QuestionSummary(Long id, Long topicId, Long leetcodeNumber, String title, String link,
+                           Question.Difficulty difficulty, Question.Status status, Boolean isImportant,
+                           LocalDateTime reminderDateTime, LocalDateTime createdAt, LocalDateTime updatedAt) {
+        this.id = id;
+        this.topicId = topicId;
+        this.leetcodeNumber = leetcodeNumber;
+        this.title = title;
+        this.link = link;
+        this.difficulty = difficulty;
+        this.status = status;
+        this.isImportant = isImportant;
+        this.reminderDateTime = reminderDateTime;
+        this.createdAt = createdAt;
+        this.updatedAt = updatedAt;
+    }
+
+    /** Reads the topic id from the reference without loading the topic. */
+    public static QuestionSummary from(Question question) {
+        return new QuestionSummary(question.getId(), question.getTopic() != null ? question.getTopic().getId() : null,
+                question.getLeetcodeNumber(), question.getTitle(), question.getLink(), question.getDifficulty(),
+                question.getStatus(), question.getIsImportant(), question.getReminderDateTime(),
+                question.getCreatedAt(), question.getUpdatedAt());
+    }
+
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+
+    public Long getTopicId() { return topicId; }
+    public void setTopicId(Long topicId) { this.topicId = topicId; }
+
+    public Long getLeetcodeNumber() { return leetcodeNumber; }
+    public void setLeetcodeNumber(Long leetcodeNumber) { this.leetcodeNumber = leetcodeNumber; }
+
+    public String getTitle() { return title; }
+    public void setTitle(String title) { this.title = title; }
+
+    public String getLink() { return link; }
+    public void setLink(String link) { this.link = link; }
+
+    public Question.Difficulty getDifficulty() { return difficulty; }
+    public void setDifficulty(Question.Difficulty difficulty) { this.difficulty = difficulty; }
+
+    public Question.Status getStatus() { return status; }
+    public void setStatus(Question.Status status) { this.status = status; }
+
+    public Boolean getIsImportant() { return isImportant; }
+    public void setIsImportant(Boolean isImportant) { this.isImportant = isImportant; }
+
+    public LocalDateTime getReminderDateTime() { return reminderDateTime; }
+    public void setReminderDateTime(LocalDateTime reminderDateTime) { this.reminderDateTime = reminderDateTime; }
+
+    public LocalDateTime getCreatedAt() { return createdAt; }
+    public void setCreatedAt(LocalDateTime createdAt) { this.createdAt = createdAt; }
+
+    public LocalDateTime getUpdatedAt() { return updatedAt; }
+    public void setUpdatedAt(LocalDateTime updatedAt) { this.updatedAt = updatedAt; }
+}
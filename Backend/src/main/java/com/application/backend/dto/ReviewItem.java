@@ -0,0 +1,72 @@
+package com.application.backend.dto;
+
+import com.application.backend.model.Question;
+import java.time.LocalDateTime;
+
+/**
+ * A question in the review queue with the schedule that placed it there.
+ */
+public class ReviewItem {
+    private Long questionId;
+    private Long topicId;
+    private Long leetcodeNumber;
+    private String title;
+    private String link;
+    private Question.Difficulty difficulty;
+    private Boolean isImportant;
+    private LocalDateTime dueAt;
+    private Integer intervalDays;
+    private Integer repetitions;
+    private Double easeFactor;
+
+    public ReviewItem() {}
+
+    public ReviewItem(Long questionId, Long topicId, Long leetcodeNumber, String title, String link,
+                      Question.Difficulty difficulty, Boolean isImportant, LocalDateTime dueAt,
+                      Integer intervalDays, Integer repetitions, Double easeFactor) {
+        this.questionId = questionId;
+        this.topicId = topicId;
+        this.leetcodeNumber = leetcodeNumber;
+        this.title = title;
+        this.link = link;
+        this.difficulty = difficulty;
+        this.isImportant = isImportant;
+        this.dueAt = dueAt;
+        this.intervalDays = intervalDays;
+        this.repetitions = repetitions;
+        this.easeFactor = easeFactor;
+    }
+
+    public Long getQuestionId() { return questionId; }
+    public void setQuestionId(Long questionId) { this.questionId = questionId; }
+
+    public Long getTopicId() { return topicId; }
+    public void setTopicId(Long topicId) { this.topicId = topicId; }
+
+    public Long getLeetcodeNumber() { return leetcodeNumber; }
+    public void setLeetcodeNumber(Long leetcodeNumber) { this.leetcodeNumber = leetcodeNumber; }
+
+    public String getTitle() { return title; }
+    public void setTitle(String title) { this.title = title; }
+
+    public String getLink() { return link; }
+    public void setLink(String link) { this.link = link; }
+
+    public Question.Difficulty getDifficulty() { return difficulty; }
+    public void setDifficulty(Question.Difficulty difficulty) { this.difficulty = difficulty; }
+
+    public Boolean getIsImportant() { return isImportant; }
+    public void setIsImportant(Boolean isImportant) { this.isImportant = isImportant; }
+
+    public LocalDateTime getDueAt() { return dueAt; }
+    public void setDueAt(LocalDateTime dueAt) { this.dueAt = dueAt; }
+
+    public Integer getIntervalDays() { return intervalDays; }
+    public void setIntervalDays(Integer intervalDays) { this.intervalDays = intervalDays; }
+
+    public Integer getRepetitions() { return repetitions; }
+    public void setRepetitions(Integer repetitions) { this.repetitions = repetitions; }
+
+    public Double getEaseFactor() { return easeFactor; }
+    public void setEaseFactor(Double easeFactor) { this.easeFactor = easeFactor; }
+}
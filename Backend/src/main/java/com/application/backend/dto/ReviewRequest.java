@@ -0,0 +1,11 @@
+package com.application.backend.dto;
+
+/**
+ * Outcome of practising a question again, graded 0 (blank) to 5 (instant recall).
+ */
+public class ReviewRequest {
+    private Integer quality;
+
+    public Integer getQuality() { return quality; }
+    public void setQuality(Integer quality) { this.quality = quality; }
+}
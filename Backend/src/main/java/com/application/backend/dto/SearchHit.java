@@ -0,0 +1,49 @@
+package com.application.backend.dto;
+
+public class SearchHit {
+    public enum Type {
+        QUESTION, TOPIC
+    }
+
+    private Type type;
+    private Long id;
+    private String title;
+    private Long leetcodeNumber;
+    private Long topicId;
+    private String topicName;
+    private double score;
+
+    public SearchHit() {}
+
+    public SearchHit(Type type, Long id, String title, Long leetcodeNumber, Long topicId, String topicName,
+                     double score) {
+        this.type = type;
+        this.id = id;
+        this.title = title;
+        this.leetcodeNumber = leetcodeNumber;
+        this.topicId = topicId;
+        this.topicName = topicName;
+        this.score = score;
+    }
+
+    public Type getType() { return type; }
+    public void setType(Type type) { this.type = type; }
+
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+
+    public String getTitle() { return title; }
+    public void setTitle(String title) { this.title = title; }
+
+    public Long getLeetcodeNumber() { return leetcodeNumber; }
+    public void setLeetcodeNumber(Long leetcodeNumber) { this.leetcodeNumber = leetcodeNumber; }
+
+    public Long getTopicId() { return topicId; }
+    public void setTopicId(Long topicId) { this.topicId = topicId; }
+
+    public String getTopicName() { return topicName; }
+    public void setTopicName(String topicName) { this.topicName = topicName; }
+
+    public double getScore() { return score; }
+    public void setScore(double score) { this.score = score; }
+}
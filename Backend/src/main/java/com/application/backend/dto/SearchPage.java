@@ -0,0 +1,37 @@
+package com.application.backend.dto;
+
+import java.util.List;
+
+public class SearchPage {
+    private List<SearchHit> items;
+    private int total;
+    private boolean totalExact;
+    private int page;
+    private int size;
+
+    public SearchPage() {}
+
+    public SearchPage(List<SearchHit> items, int total, boolean totalExact, int page, int size) {
+        this.items = items;
+        this.total = total;
+        this.totalExact = totalExact;
+        this.page = page;
+        this.size = size;
+    }
+
+    public List<SearchHit> getItems() { return items; }
+    public void setItems(List<SearchHit> items) { this.items = items; }
+
+    public int getTotal() { return total; }
+    public void setTotal(int total) { this.total = total; }
+
+    /** False when a prefix expansion was capped, making {@code total} a lower bound. */
+    public boolean isTotalExact() { return totalExact; }
+    public void setTotalExact(boolean totalExact) { this.totalExact = totalExact; }
+
+    public int getPage() { return page; }
+    public void setPage(int page) { this.page = page; }
+
+    public int getSize() { return size; }
+    public void setSize(int size) { this.size = size; }
+}
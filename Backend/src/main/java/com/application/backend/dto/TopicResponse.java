@@ -10,11 +10,15 @@ public class TopicResponse {
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
     private long questionCount;
+    private long completedCount;
+    private long inProgressCount;
+    private long todoCount;
 
     public TopicResponse() {}
 
     public TopicResponse(Long id, String name, String description, String notes,
-                         LocalDateTime createdAt, LocalDateTime updatedAt, long questionCount) {
+                         LocalDateTime createdAt, LocalDateTime updatedAt, long questionCount,
+                         long completedCount, long inProgressCount, long todoCount) {
         this.id = id;
         this.name = name;
         this.description = description;
@@ -22,6 +26,9 @@ public class TopicResponse {
         this.createdAt = createdAt;
         this.updatedAt = updatedAt;
         this.questionCount = questionCount;
+        this.completedCount = completedCount;
+        this.inProgressCount = inProgressCount;
+        this.todoCount = todoCount;
     }
 
     public Long getId() { return id; }
@@ -44,4 +51,13 @@ public class TopicResponse {
 
     public long getQuestionCount() { return questionCount; }
     public void setQuestionCount(long questionCount) { this.questionCount = questionCount; }
+
+    public long getCompletedCount() { return completedCount; }
+    public void setCompletedCount(long completedCount) { this.completedCount = completedCount; }
+
+    public long getInProgressCount() { return inProgressCount; }
+    public void setInProgressCount(long inProgressCount) { this.inProgressCount = inProgressCount; }
+
+    public long getTodoCount() { return todoCount; }
+    public void setTodoCount(long todoCount) { this.todoCount = todoCount; }
 }
@@ -0,0 +1,54 @@
+package com.application.backend.jpa;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Duration;
+
+/**
+ * Opens a {@link QueryStats} scope per request and logs requests that
+ * issue more than {@code jpa.inspector.max-statements} statements or spend
+ * more than {@code jpa.inspector.max-execution-time} executing them.
+ */
+@Component
+@ConditionalOnProperty(name = "jpa.inspector.enabled", havingValue = "true", matchIfMissing = true)
+public class QueryInspectionFilter extends OncePerRequestFilter {
+    private static final Logger log = LoggerFactory.getLogger(QueryInspectionFilter.class);
+
+    @Value("${jpa.inspector.max-statements:20}")
+    private int maxStatements;
+
+    @Value("${jpa.inspector.max-execution-time:PT0.25S}")
+    private Duration maxExecutionTime;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        QueryStats stats = QueryInspector.begin();
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            QueryInspector.end(stats);
+            report(request, stats);
+        }
+    }
+
+    private void report(HttpServletRequest request, QueryStats stats) {
+        if (stats.getStatements() > maxStatements || stats.getExecutionMillis() > maxExecutionTime.toMillis()) {
+            log.warn("{} {} issued {} statements taking {}ms; most frequent:{}", request.getMethod(),
+                    request.getRequestURI(), stats.getStatements(), stats.getExecutionMillis(), stats.describe(5));
+        } else if (log.isDebugEnabled() && stats.getStatements() > 0) {
+            log.debug("{} {} issued {} statements taking {}ms", request.getMethod(), request.getRequestURI(),
+                    stats.getStatements(), stats.getExecutionMillis());
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package com.application.backend.jpa;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+/**
+ * Counts the SQL Hibernate prepares on the current thread into every open
+ * {@link QueryStats} scope. Registered through
+ * {@code hibernate.session_factory.statement_inspector}; scopes are opened
+ * per HTTP request by {@link QueryInspectionFilter} and by tests.
+ * Statements issued through JdbcTemplate are not seen.
+ */
+public class QueryInspector implements StatementInspector {
+    private static final ThreadLocal<Deque<QueryStats>> SCOPES = new ThreadLocal<>();
+
+    public static QueryStats begin() {
+        Deque<QueryStats> scopes = SCOPES.get();
+        if (scopes == null) {
+            scopes = new ArrayDeque<>();
+            SCOPES.set(scopes);
+        }
+        QueryStats stats = new QueryStats();
+        scopes.push(stats);
+        return stats;
+    }
+
+    public static void end(QueryStats stats) {
+        Deque<QueryStats> scopes = SCOPES.get();
+        if (scopes != null) {
+            scopes.remove(stats);
+            if (scopes.isEmpty()) {
+                SCOPES.remove();
+            }
+        }
+    }
+
+    /** Runs {@code call} in its own scope and returns what it issued. */
+    public static QueryStats capture(Runnable call) {
+        QueryStats stats = begin();
+        try {
+            call.run();
+        } finally {
+            end(stats);
+        }
+        return stats;
+    }
+
+    static void recordExecution(long nanos) {
+        Deque<QueryStats> scopes = SCOPES.get();
+        if (scopes != null) {
+            scopes.forEach(stats -> stats.recordExecution(nanos));
+        }
+    }
+
+    @Override
+    public String inspect(String sql) {
+        Deque<QueryStats> scopes = SCOPES.get();
+        if (scopes != null) {
+            scopes.forEach(stats -> stats.recordStatement(sql));
+        }
+        return sql;
+    }
+}
@@ -0,0 +1,59 @@
+package com.application.backend.jpa;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * Statements and JDBC execution time observed within one scope, with the
+ * statements grouped by shape so an N+1 shows up as one shape repeated N times.
+ */
+public class QueryStats {
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+    private static final Pattern STRING_LITERAL = Pattern.compile("'(?:[^']|'')*'");
+    private static final Pattern NUMBER_LITERAL = Pattern.compile("\\b\\d+\\b");
+    private static final Pattern IN_LIST = Pattern.compile("in \\((?:\\?, ?)+\\?\\)");
+    private static final int MAX_SHAPE_LENGTH = 300;
+
+    private int statements;
+    private long executionNanos;
+    private final Map<String, Integer> shapes = new LinkedHashMap<>();
+
+    void recordStatement(String sql) {
+        statements++;
+        shapes.merge(shape(sql), 1, Integer::sum);
+    }
+
+    void recordExecution(long nanos) {
+        executionNanos += nanos;
+    }
+
+    public int getStatements() {
+        return statements;
+    }
+
+    public long getExecutionMillis() {
+        return executionNanos / 1_000_000;
+    }
+
+    /** The most frequent shapes first, one per line as {@code <count>x <sql>}. */
+    public String describe(int limit) {
+        List<Map.Entry<String, Integer>> sorted = new ArrayList<>(shapes.entrySet());
+        sorted.sort(Map.Entry.<String, Integer>comparingByValue().reversed());
+        StringBuilder out = new StringBuilder();
+        for (Map.Entry<String, Integer> shape : sorted.subList(0, Math.min(limit, sorted.size()))) {
+            out.append("\n  ").append(shape.getValue()).append("x ").append(shape.getKey());
+        }
+        return out.toString();
+    }
+
+    static String shape(String sql) {
+        String shape = WHITESPACE.matcher(sql.trim()).replaceAll(" ");
+        shape = STRING_LITERAL.matcher(shape).replaceAll("?");
+        shape = NUMBER_LITERAL.matcher(shape).replaceAll("?");
+        shape = IN_LIST.matcher(shape).replaceAll("in (...)");
+        return shape.length() > MAX_SHAPE_LENGTH ? shape.substring(0, MAX_SHAPE_LENGTH) + "..." : shape;
+    }
+}
@@ -0,0 +1,32 @@
+package com.application.backend.jpa;
+
+import org.hibernate.SessionEventListener;
+
+/**
+ * Times JDBC statement and batch execution for {@link QueryInspector}.
+ * Hibernate creates one instance per session through
+ * {@code hibernate.session.events.auto}.
+ */
+public class QueryTimingListener implements SessionEventListener {
+    private long executionStart;
+
+    @Override
+    public void jdbcExecuteStatementStart() {
+        executionStart = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteStatementEnd() {
+        QueryInspector.recordExecution(System.nanoTime() - executionStart);
+    }
+
+    @Override
+    public void jdbcExecuteBatchStart() {
+        executionStart = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteBatchEnd() {
+        QueryInspector.recordExecution(System.nanoTime() - executionStart);
+    }
+}
@@ -0,0 +1,66 @@
+package com.application.backend.model;
+
+import jakarta.persistence.*;
+import java.time.LocalDate;
+
+/**
+ * Status counts of one (topic, difficulty) cell as of the end of a day. A row
+ * is only written on days the cell changed; later days carry it forward.
+ */
+@Entity
+@Table(name = "progress_facts",
+       uniqueConstraints = @UniqueConstraint(name = "uk_progress_facts_cell_date",
+                                             columnNames = {"topic_id", "difficulty", "fact_date"}),
+       indexes = @Index(name = "idx_progress_facts_date", columnList = "fact_date"))
+public class ProgressFact {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "fact_date", nullable = false)
+    private LocalDate date;
+
+    @Column(name = "topic_id", nullable = false)
+    private Long topicId;
+
+    @Column(nullable = false)
+    @Enumerated(EnumType.STRING)
+    private Question.Difficulty difficulty;
+
+    @Column(name = "total_questions", nullable = false)
+    private Integer totalQuestions = 0;
+
+    @Column(name = "completed_questions", nullable = false)
+    private Integer completedQuestions = 0;
+
+    @Column(name = "in_progress_questions", nullable = false)
+    private Integer inProgressQuestions = 0;
+
+    @Column(name = "todo_questions", nullable = false)
+    private Integer todoQuestions = 0;
+
+    // Getters and Setters
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+
+    public LocalDate getDate() { return date; }
+    public void setDate(LocalDate date) { this.date = date; }
+
+    public Long getTopicId() { return topicId; }
+    public void setTopicId(Long topicId) { this.topicId = topicId; }
+
+    public Question.Difficulty getDifficulty() { return difficulty; }
+    public void setDifficulty(Question.Difficulty difficulty) { this.difficulty = difficulty; }
+
+    public Integer getTotalQuestions() { return totalQuestions; }
+    public void setTotalQuestions(Integer totalQuestions) { this.totalQuestions = totalQuestions; }
+
+    public Integer getCompletedQuestions() { return completedQuestions; }
+    public void setCompletedQuestions(Integer completedQuestions) { this.completedQuestions = completedQuestions; }
+
+    public Integer getInProgressQuestions() { return inProgressQuestions; }
+    public void setInProgressQuestions(Integer inProgressQuestions) { this.inProgressQuestions = inProgressQuestions; }
+
+    public Integer getTodoQuestions() { return todoQuestions; }
+    public void setTodoQuestions(Integer todoQuestions) { this.todoQuestions = todoQuestions; }
+}
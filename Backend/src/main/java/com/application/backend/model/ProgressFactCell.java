@@ -0,0 +1,36 @@
+package com.application.backend.model;
+
+import jakarta.persistence.*;
+
+/**
+ * One (topic, difficulty) cell that has rows in {@code progress_facts},
+ * registered when its first row is written. Reads of every cell's latest
+ * row start here, so they cost one index lookup per cell rather than a
+ * scan of the whole history.
+ */
+@Entity
+@Table(name = "progress_fact_cells",
+       uniqueConstraints = @UniqueConstraint(name = "uk_progress_fact_cells_cell",
+                                             columnNames = {"topic_id", "difficulty"}))
+public class ProgressFactCell {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "topic_id", nullable = false)
+    private Long topicId;
+
+    @Column(nullable = false)
+    @Enumerated(EnumType.STRING)
+    private Question.Difficulty difficulty;
+
+    // Getters and Setters
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+
+    public Long getTopicId() { return topicId; }
+    public void setTopicId(Long topicId) { this.topicId = topicId; }
+
+    public Question.Difficulty getDifficulty() { return difficulty; }
+    public void setDifficulty(Question.Difficulty difficulty) { this.difficulty = difficulty; }
+}
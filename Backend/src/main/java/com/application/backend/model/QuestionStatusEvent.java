@@ -0,0 +1,62 @@
+package com.application.backend.model;
+
+import jakarta.persistence.*;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * One status change of a question, appended when it happens and never
+ * updated. {@code occurredOn} keeps the calendar day as a plain column so
+ * daily counts group on an indexed value rather than a function of a timestamp.
+ */
+@Entity
+@Table(name = "question_status_events", indexes = {
+        @Index(name = "idx_question_status_events_status_day", columnList = "to_status, occurred_on"),
+        @Index(name = "idx_question_status_events_question", columnList = "question_id")
+})
+public class QuestionStatusEvent {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "question_id", nullable = false, updatable = false)
+    private Long questionId;
+
+    @Column(name = "from_status", updatable = false)
+    @Enumerated(EnumType.STRING)
+    private Question.Status fromStatus;
+
+    @Column(name = "to_status", nullable = false, updatable = false)
+    @Enumerated(EnumType.STRING)
+    private Question.Status toStatus;
+
+    @Column(name = "occurred_at", nullable = false, updatable = false)
+    private LocalDateTime occurredAt;
+
+    @Column(name = "occurred_on", nullable = false, updatable = false)
+    private LocalDate occurredOn;
+
+    public QuestionStatusEvent() {}
+
+    public QuestionStatusEvent(Long questionId, Question.Status fromStatus, Question.Status toStatus,
+                               LocalDateTime occurredAt) {
+        this.questionId = questionId;
+        this.fromStatus = fromStatus;
+        this.toStatus = toStatus;
+        this.occurredAt = occurredAt;
+        this.occurredOn = occurredAt.toLocalDate();
+    }
+
+    // Getters
+    public Long getId() { return id; }
+
+    public Long getQuestionId() { return questionId; }
+
+    public Question.Status getFromStatus() { return fromStatus; }
+
+    public Question.Status getToStatus() { return toStatus; }
+
+    public LocalDateTime getOccurredAt() { return occurredAt; }
+
+    public LocalDate getOccurredOn() { return occurredOn; }
+}
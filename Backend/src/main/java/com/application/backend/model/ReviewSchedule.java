@@ -0,0 +1,101 @@
+package com.application.backend.model;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * Spaced-repetition state of one question. {@code dueAt} is null while the
+ * question is not DONE, which keeps it out of the review queue without
+ * losing its ease factor.
+ */
+@Entity
+@Table(name = "review_schedules", indexes = {
+        @Index(name = "idx_review_schedules_due_at", columnList = "due_at")
+})
+public class ReviewSchedule {
+    @Id
+    @Column(name = "question_id")
+    private Long questionId;
+
+    @Column(name = "ease_factor", nullable = false)
+    private Double easeFactor;
+
+    @Column(name = "interval_days", nullable = false)
+    private Integer intervalDays = 0;
+
+    @Column(nullable = false)
+    private Integer repetitions = 0;
+
+    @Column(name = "due_at")
+    private LocalDateTime dueAt;
+
+    @Column(name = "last_reviewed_at")
+    private LocalDateTime lastReviewedAt;
+
+    @Column(name = "last_quality")
+    private Integer lastQuality;
+
+    public ReviewSchedule() {}
+
+    public ReviewSchedule(Long questionId, double easeFactor) {
+        this.questionId = questionId;
+        this.easeFactor = easeFactor;
+    }
+
+    // Getters and Setters
+    public Long getQuestionId() {
+        return questionId;
+    }
+
+    public void setQuestionId(Long questionId) {
+        this.questionId = questionId;
+    }
+
+    public Double getEaseFactor() {
+        return easeFactor;
+    }
+
+    public void setEaseFactor(Double easeFactor) {
+        this.easeFactor = easeFactor;
+    }
+
+    public Integer getIntervalDays() {
+        return intervalDays;
+    }
+
+    public void setIntervalDays(Integer intervalDays) {
+        this.intervalDays = intervalDays;
+    }
+
+    public Integer getRepetitions() {
+        return repetitions;
+    }
+
+    public void setRepetitions(Integer repetitions) {
+        this.repetitions = repetitions;
+    }
+
+    public LocalDateTime getDueAt() {
+        return dueAt;
+    }
+
+    public void setDueAt(LocalDateTime dueAt) {
+        this.dueAt = dueAt;
+    }
+
+    public LocalDateTime getLastReviewedAt() {
+        return lastReviewedAt;
+    }
+
+    public void setLastReviewedAt(LocalDateTime lastReviewedAt) {
+        this.lastReviewedAt = lastReviewedAt;
+    }
+
+    public Integer getLastQuality() {
+        return lastQuality;
+    }
+
+    public void setLastQuality(Integer lastQuality) {
+        this.lastQuality = lastQuality;
+    }
+}
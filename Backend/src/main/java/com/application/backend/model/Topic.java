@@ -1,10 +1,16 @@
 package com.application.backend.model;
 
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import java.time.LocalDateTime;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "topic")
 @Table(name = "topics")
+@JsonIgnoreProperties({"hibernateLazyInitializer", "handler"})
 public class Topic {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
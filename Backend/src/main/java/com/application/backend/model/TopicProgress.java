@@ -0,0 +1,80 @@
+package com.application.backend.model;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * Per-topic status counters, kept in step with question writes so topic
+ * pages can read them without scanning the topic's questions.
+ */
+@Entity
+@Table(name = "topic_progress")
+public class TopicProgress {
+    @Id
+    @Column(name = "topic_id")
+    private Long topicId;
+
+    @Column(name = "total_questions", nullable = false)
+    private Integer totalQuestions = 0;
+
+    @Column(name = "completed_questions", nullable = false)
+    private Integer completedQuestions = 0;
+
+    @Column(name = "in_progress_questions", nullable = false)
+    private Integer inProgressQuestions = 0;
+
+    @Column(name = "todo_questions", nullable = false)
+    private Integer todoQuestions = 0;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    // Getters and Setters
+    public Long getTopicId() {
+        return topicId;
+    }
+
+    public void setTopicId(Long topicId) {
+        this.topicId = topicId;
+    }
+
+    public Integer getTotalQuestions() {
+        return totalQuestions;
+    }
+
+    public void setTotalQuestions(Integer totalQuestions) {
+        this.totalQuestions = totalQuestions;
+    }
+
+    public Integer getCompletedQuestions() {
+        return completedQuestions;
+    }
+
+    public void setCompletedQuestions(Integer completedQuestions) {
+        this.completedQuestions = completedQuestions;
+    }
+
+    public Integer getInProgressQuestions() {
+        return inProgressQuestions;
+    }
+
+    public void setInProgressQuestions(Integer inProgressQuestions) {
+        this.inProgressQuestions = inProgressQuestions;
+    }
+
+    public Integer getTodoQuestions() {
+        return todoQuestions;
+    }
+
+    public void setTodoQuestions(Integer todoQuestions) {
+        this.todoQuestions = todoQuestions;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public void setUpdatedAt(LocalDateTime updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+}
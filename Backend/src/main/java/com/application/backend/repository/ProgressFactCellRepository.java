@@ -0,0 +1,28 @@
+package com.application.backend.repository;
+
+import com.application.backend.model.ProgressFactCell;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface ProgressFactCellRepository extends JpaRepository<ProgressFactCell, Long> {
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "progress_fact_cells"))
+    @Modifying
+    @Query(value = "insert into progress_fact_cells (topic_id, difficulty) " +
+                   "values (:topicId, :difficulty) on conflict do nothing", nativeQuery = true)
+    int insertIfAbsent(@Param("topicId") Long topicId, @Param("difficulty") String difficulty);
+
+    /** Registers cells whose rows predate the cell table. */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "progress_fact_cells"))
+    @Modifying
+    @Query(value = "insert into progress_fact_cells (topic_id, difficulty) " +
+                   "select distinct topic_id, difficulty from progress_facts on conflict do nothing", nativeQuery = true)
+    int insertMissing();
+}
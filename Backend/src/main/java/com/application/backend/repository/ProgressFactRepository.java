@@ -0,0 +1,91 @@
+package com.application.backend.repository;
+
+import com.application.backend.model.ProgressFact;
+import com.application.backend.model.Question;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface ProgressFactRepository extends JpaRepository<ProgressFact, Long> {
+    Optional<ProgressFact> findTopByTopicIdAndDifficultyAndDateLessThanOrderByDateDesc(
+            Long topicId, Question.Difficulty difficulty, LocalDate date);
+
+    /**
+     * The newest row of every cell dated before {@code date}, i.e. each cell's
+     * state the day before. Driven from the registered cells, so each cell
+     * costs one descent of the (topic_id, difficulty, fact_date) index.
+     */
+    @Query("select f from ProgressFactCell c join ProgressFact f " +
+           "on f.topicId = c.topicId and f.difficulty = c.difficulty " +
+           "and f.date = (select max(g.date) from ProgressFact g " +
+           "              where g.topicId = c.topicId and g.difficulty = c.difficulty and g.date < :date) " +
+           "where (:topicId is null or c.topicId = :topicId) " +
+           "and (:difficulty is null or c.difficulty = :difficulty)")
+    List<ProgressFact> findLatestBefore(@Param("date") LocalDate date,
+                                        @Param("topicId") Long topicId,
+                                        @Param("difficulty") Question.Difficulty difficulty);
+
+    @Query("select f from ProgressFact f " +
+           "where f.date between :start and :end " +
+           "and (:topicId is null or f.topicId = :topicId) " +
+           "and (:difficulty is null or f.difficulty = :difficulty) " +
+           "order by f.date")
+    List<ProgressFact> findBetween(@Param("start") LocalDate start,
+                                   @Param("end") LocalDate end,
+                                   @Param("topicId") Long topicId,
+                                   @Param("difficulty") Question.Difficulty difficulty);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "progress_facts"))
+    @Modifying
+    @Query(value = "insert into progress_facts (fact_date, topic_id, difficulty, total_questions, " +
+                   "completed_questions, in_progress_questions, todo_questions) " +
+                   "values (:date, :topicId, :difficulty, :total, :completed, :inProgress, :todo) " +
+                   "on conflict do nothing", nativeQuery = true)
+    int insertIfAbsent(@Param("date") LocalDate date,
+                       @Param("topicId") Long topicId,
+                       @Param("difficulty") String difficulty,
+                       @Param("total") int total,
+                       @Param("completed") int completed,
+                       @Param("inProgress") int inProgress,
+                       @Param("todo") int todo);
+
+    @Modifying
+    @Query("update ProgressFact f set " +
+           "f.totalQuestions = f.totalQuestions + :total, " +
+           "f.completedQuestions = f.completedQuestions + :completed, " +
+           "f.inProgressQuestions = f.inProgressQuestions + :inProgress, " +
+           "f.todoQuestions = f.todoQuestions + :todo " +
+           "where f.date = :date and f.topicId = :topicId and f.difficulty = :difficulty")
+    int applyDelta(@Param("date") LocalDate date,
+                   @Param("topicId") Long topicId,
+                   @Param("difficulty") Question.Difficulty difficulty,
+                   @Param("total") int total,
+                   @Param("completed") int completed,
+                   @Param("inProgress") int inProgress,
+                   @Param("todo") int todo);
+
+    @Modifying
+    @Query("update ProgressFact f set " +
+           "f.totalQuestions = :total, " +
+           "f.completedQuestions = :completed, " +
+           "f.inProgressQuestions = :inProgress, " +
+           "f.todoQuestions = :todo " +
+           "where f.date = :date and f.topicId = :topicId and f.difficulty = :difficulty")
+    int overwrite(@Param("date") LocalDate date,
+                  @Param("topicId") Long topicId,
+                  @Param("difficulty") Question.Difficulty difficulty,
+                  @Param("total") int total,
+                  @Param("completed") int completed,
+                  @Param("inProgress") int inProgress,
+                  @Param("todo") int todo);
+}
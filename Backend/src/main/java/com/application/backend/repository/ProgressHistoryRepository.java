@@ -1,8 +1,15 @@
 package com.application.backend.repository;
 
 import com.application.backend.model.ProgressHistory;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
 import java.util.List;
@@ -12,4 +19,47 @@ import java.util.Optional;
 public interface ProgressHistoryRepository extends JpaRepository<ProgressHistory, Long> {
     Optional<ProgressHistory> findByDate(LocalDate date);
     List<ProgressHistory> findByDateBetweenOrderByDateAsc(LocalDate startDate, LocalDate endDate);
+    Optional<ProgressHistory> findTopByDateLessThanEqualOrderByDateDesc(LocalDate date);
+
+    /** Idempotent snapshot insert; concurrent instances race on the unique date safely. */
+    @Transactional
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "progress_history"))
+    @Modifying
+    @Query(value = "insert into progress_history (date, total_questions, completed_questions, " +
+                   "in_progress_questions, todo_questions) " +
+                   "values (:date, :total, :completed, :inProgress, :todo) " +
+                   "on conflict do nothing", nativeQuery = true)
+    int insertIfAbsent(@Param("date") LocalDate date,
+                       @Param("total") int total,
+                       @Param("completed") int completed,
+                       @Param("inProgress") int inProgress,
+                       @Param("todo") int todo);
+
+    @Transactional
+    @Modifying
+    @Query("update ProgressHistory h set " +
+           "h.totalQuestions = :total, " +
+           "h.completedQuestions = :completed, " +
+           "h.inProgressQuestions = :inProgress, " +
+           "h.todoQuestions = :todo " +
+           "where h.date = :date")
+    int overwrite(@Param("date") LocalDate date,
+                  @Param("total") int total,
+                  @Param("completed") int completed,
+                  @Param("inProgress") int inProgress,
+                  @Param("todo") int todo);
+
+    @Transactional
+    @Modifying
+    @Query("update ProgressHistory h set " +
+           "h.totalQuestions = h.totalQuestions + :total, " +
+           "h.completedQuestions = h.completedQuestions + :completed, " +
+           "h.inProgressQuestions = h.inProgressQuestions + :inProgress, " +
+           "h.todoQuestions = h.todoQuestions + :todo " +
+           "where h.date = :date")
+    int applyDelta(@Param("date") LocalDate date,
+                   @Param("total") int total,
+                   @Param("completed") int completed,
+                   @Param("inProgress") int inProgress,
+                   @Param("todo") int todo);
 }
@@ -1,9 +1,42 @@
 package com.application.backend.repository;
 
 import com.application.backend.model.Progress;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
 
 @Repository
 public interface ProgressRepository extends JpaRepository<Progress, Long> {
+
+    @Transactional
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "progress"))
+    @Modifying
+    @Query(value = "insert into progress (id, total_questions, completed_questions, " +
+                   "in_progress_questions, todo_questions, updated_at) " +
+                   "values (:id, 0, 0, 0, 0, current_timestamp)", nativeQuery = true)
+    void insertEmpty(@Param("id") Long id);
+
+    @Transactional
+    @Modifying
+    @Query("update Progress p set " +
+           "p.totalQuestions = p.totalQuestions + :total, " +
+           "p.completedQuestions = p.completedQuestions + :completed, " +
+           "p.inProgressQuestions = p.inProgressQuestions + :inProgress, " +
+           "p.todoQuestions = p.todoQuestions + :todo, " +
+           "p.updatedAt = :now " +
+           "where p.id = :id")
+    int applyDelta(@Param("id") Long id,
+                   @Param("total") int total,
+                   @Param("completed") int completed,
+                   @Param("inProgress") int inProgress,
+                   @Param("todo") int todo,
+                   @Param("now") LocalDateTime now);
 }
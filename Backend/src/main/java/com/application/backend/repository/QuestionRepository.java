@@ -1,32 +1,129 @@
 package com.application.backend.repository;
 
 import com.application.backend.model.Question;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import org.springframework.data.domain.Pageable;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 import java.time.LocalDateTime;
 
 @Repository
-public interface QuestionRepository extends JpaRepository<Question, Long> {
+public interface QuestionRepository extends JpaRepository<Question, Long>, QuestionRepositoryCustom {
     List<Question> findByTopicId(Long topicId);
     long countByTopicId(Long topicId);
     List<Question> findByStatusOrderByUpdatedAtDesc(Question.Status status, Pageable pageable);
+    List<Question> findByReminderDateTimeIsNotNullOrderByReminderDateTimeAsc();
+    List<Question> findByReminderDateTimeAfterOrderByReminderDateTimeAsc(LocalDateTime after, Pageable pageable);
 
-    interface DailyCount {
-        java.time.LocalDate getDate();
+    // Fetch plans for responses that embed the topic; the finders above leave it as an unloaded reference
+    @EntityGraph(attributePaths = "topic")
+    @Query("select q from Question q")
+    List<Question> findAllWithTopic();
+
+    @EntityGraph(attributePaths = "topic")
+    Optional<Question> findWithTopicById(Long id);
+
+    @EntityGraph(attributePaths = "topic")
+    List<Question> findWithTopicByIdIn(Collection<Long> ids);
+
+    @EntityGraph(attributePaths = "topic")
+    List<Question> findWithTopicByTopicId(Long topicId);
+
+    @EntityGraph(attributePaths = "topic")
+    List<Question> findWithTopicByStatusOrderByUpdatedAtDesc(Question.Status status, Pageable pageable);
+
+    @EntityGraph(attributePaths = "topic")
+    List<Question> findWithTopicByReminderDateTimeIsNotNullOrderByReminderDateTimeAsc();
+
+    @EntityGraph(attributePaths = "topic")
+    List<Question> findWithTopicByReminderDateTimeAfterOrderByReminderDateTimeAsc(LocalDateTime after, Pageable pageable);
+
+    interface ReminderSlot {
+        Long getId();
+        LocalDateTime getReminderDateTime();
+    }
+
+    @Query("select q.id as id, q.reminderDateTime as reminderDateTime " +
+           "from Question q where q.reminderDateTime > :after")
+    List<ReminderSlot> findReminderSlotsAfter(@Param("after") LocalDateTime after);
+
+    @Query("select count(q) as count, max(q.updatedAt) as lastModified from Question q")
+    TableVersion findTableVersion();
+
+    interface StatusCount {
+        Question.Status getStatus();
+        long getCount();
+    }
+
+    @Query("select q.status as status, count(q) as count from Question q group by q.status")
+    List<StatusCount> countGroupedByStatus();
+
+    interface CellCount {
+        Long getTopicId();
+        Question.Difficulty getDifficulty();
+        Question.Status getStatus();
         long getCount();
     }
 
-    @Query("select function('date', q.updatedAt) as date, count(q) as count " +
+    @Query("select q.topic.id as topicId, q.difficulty as difficulty, q.status as status, count(q) as count " +
+           "from Question q group by q.topic.id, q.difficulty, q.status")
+    List<CellCount> countGroupedByCell();
+
+    interface SearchRow {
+        Long getId();
+        String getTitle();
+        Long getLeetcodeNumber();
+        Long getTopicId();
+    }
+
+    @Query("select q.id as id, q.title as title, q.leetcodeNumber as leetcodeNumber, q.topic.id as topicId " +
+           "from Question q")
+    List<SearchRow> findSearchRows();
+
+    interface StatusRow {
+        Long getId();
+        Long getTopicId();
+        Question.Difficulty getDifficulty();
+        Question.Status getStatus();
+    }
+
+    /** Locks the listed questions that are not yet in {@code status}, narrowed by the optional filters. */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select q.id as id, q.topic.id as topicId, q.difficulty as difficulty, q.status as status " +
            "from Question q " +
-           "where q.status = com.application.backend.model.Question$Status.DONE " +
-           "and q.updatedAt between :start and :end " +
-           "group by function('date', q.updatedAt) " +
-           "order by date")
-    List<DailyCount> countDailyDoneBetween(@Param("start") LocalDateTime start,
-                                           @Param("end") LocalDateTime end);
+           "where q.id in :ids and q.status <> :status " +
+           "and (:topicId is null or q.topic.id = :topicId) " +
+           "and (:fromStatus is null or q.status = :fromStatus) " +
+           "order by q.id")
+    List<StatusRow> lockStatusRowsByIds(@Param("ids") List<Long> ids,
+                                        @Param("status") Question.Status status,
+                                        @Param("topicId") Long topicId,
+                                        @Param("fromStatus") Question.Status fromStatus);
+
+    /** Locks a topic's questions that are not yet in {@code status}, optionally only those in {@code fromStatus}. */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select q.id as id, q.topic.id as topicId, q.difficulty as difficulty, q.status as status " +
+           "from Question q " +
+           "where q.topic.id = :topicId and q.status <> :status " +
+           "and (:fromStatus is null or q.status = :fromStatus) " +
+           "order by q.id")
+    List<StatusRow> lockStatusRowsByTopic(@Param("topicId") Long topicId,
+                                          @Param("status") Question.Status status,
+                                          @Param("fromStatus") Question.Status fromStatus);
+
+    /** Set-based status change; bypasses {@code @PreUpdate}, so the timestamp is passed in. */
+    @Modifying
+    @Query("update Question q set q.status = :status, q.updatedAt = :now where q.id in :ids")
+    int updateStatus(@Param("ids") List<Long> ids,
+                     @Param("status") Question.Status status,
+                     @Param("now") LocalDateTime now);
 }
@@ -0,0 +1,15 @@
+package com.application.backend.repository;
+
+import com.application.backend.dto.QuestionSummary;
+import com.application.backend.model.Question;
+
+import java.util.List;
+
+public interface QuestionRepositoryCustom {
+    /**
+     * Up to {@code limit} summaries with ids after {@code cursor}, in id order.
+     * Null arguments are left out of the statement rather than matched as wildcards.
+     */
+    List<QuestionSummary> findSummariesAfter(Long cursor, Long topicId, Question.Status status,
+                                             Question.Difficulty difficulty, Boolean important, int limit);
+}
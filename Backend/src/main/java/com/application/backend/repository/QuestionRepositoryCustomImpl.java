@@ -0,0 +1,64 @@
+package com.application.backend.repository;
+
+import com.application.backend.dto.QuestionSummary;
+import com.application.backend.model.Question;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Builds the keyset listing from the filters that are present. A catch-all
+ * {@code (:x is null or ...)} statement gets one generic plan for every
+ * combination, which keeps the {@code (topic_id, id)} index from driving the seek.
+ */
+public class QuestionRepositoryCustomImpl implements QuestionRepositoryCustom {
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<QuestionSummary> findSummariesAfter(Long cursor, Long topicId, Question.Status status,
+                                                    Question.Difficulty difficulty, Boolean important, int limit) {
+        List<String> where = new ArrayList<>();
+        Map<String, Object> params = new LinkedHashMap<>();
+        if (topicId != null) {
+            where.add("q.topic.id = :topicId");
+            params.put("topicId", topicId);
+        }
+        if (cursor != null) {
+            where.add("q.id > :cursor");
+            params.put("cursor", cursor);
+        }
+        if (status != null) {
+            where.add("q.status = :status");
+            params.put("status", status);
+        }
+        if (difficulty != null) {
+            where.add("q.difficulty = :difficulty");
+            params.put("difficulty", difficulty);
+        }
+        if (Boolean.TRUE.equals(important)) {
+            where.add("q.isImportant = true");
+        } else if (important != null) {
+            // Rows saved without the flag count as not important
+            where.add("(q.isImportant = false or q.isImportant is null)");
+        }
+
+        StringBuilder jpql = new StringBuilder(
+                "select new com.application.backend.dto.QuestionSummary(q.id, q.topic.id, q.leetcodeNumber, " +
+                "q.title, q.link, q.difficulty, q.status, q.isImportant, q.reminderDateTime, q.createdAt, q.updatedAt) " +
+                "from Question q");
+        if (!where.isEmpty()) {
+            jpql.append(" where ").append(String.join(" and ", where));
+        }
+        jpql.append(" order by q.id");
+
+        TypedQuery<QuestionSummary> query = entityManager.createQuery(jpql.toString(), QuestionSummary.class);
+        params.forEach(query::setParameter);
+        return query.setMaxResults(limit).getResultList();
+    }
+}
@@ -0,0 +1,69 @@
+package com.application.backend.repository;
+
+import com.application.backend.model.Question;
+import com.application.backend.model.QuestionStatusEvent;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface QuestionStatusEventRepository extends JpaRepository<QuestionStatusEvent, Long> {
+    List<QuestionStatusEvent> findByQuestionIdOrderByOccurredAtAsc(Long questionId);
+
+    interface DailyCount {
+        LocalDate getDate();
+        long getCount();
+    }
+
+    /**
+     * Questions currently in {@code status}, counted on the day of their latest
+     * move into it, for each day of the range. Deleted questions and questions
+     * that have since left the status are not counted.
+     */
+    @Query("select e.occurredOn as date, count(e) as count " +
+           "from QuestionStatusEvent e join Question q on q.id = e.questionId " +
+           "where e.toStatus = :status and q.status = :status and e.occurredOn between :start and :end " +
+           "and e.id = (select max(l.id) from QuestionStatusEvent l " +
+           "where l.questionId = e.questionId and l.toStatus = :status) " +
+           "group by e.occurredOn " +
+           "order by e.occurredOn")
+    List<DailyCount> countDailyTransitions(@Param("status") Question.Status status,
+                                           @Param("start") LocalDate start,
+                                           @Param("end") LocalDate end);
+
+    /** Logs the move of each listed question from its current status; run before updating them. */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "question_status_events"))
+    @Modifying
+    @Query(value = "insert into question_status_events (question_id, from_status, to_status, occurred_at, occurred_on) " +
+                   "select q.id, q.status, :status, :now, :today from questions q where q.id in (:ids)",
+           nativeQuery = true)
+    int insertTransitions(@Param("ids") List<Long> ids,
+                          @Param("status") String status,
+                          @Param("now") LocalDateTime now,
+                          @Param("today") LocalDate today);
+
+    /**
+     * Gives every question without events one for its current status. Rows
+     * inserted through JDBC get their creation time; questions that predate
+     * the log and are DONE are dated by their last update, the best estimate left.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "question_status_events"))
+    @Modifying
+    @Query(value = "insert into question_status_events (question_id, from_status, to_status, occurred_at, occurred_on) " +
+                   "select q.id, null, q.status, " +
+                   "case when q.status = 'DONE' then coalesce(q.updated_at, q.created_at) else q.created_at end, " +
+                   "cast(case when q.status = 'DONE' then coalesce(q.updated_at, q.created_at) else q.created_at end as date) " +
+                   "from questions q " +
+                   "where not exists (select 1 from question_status_events e where e.question_id = q.id)",
+           nativeQuery = true)
+    int backfillMissing();
+}
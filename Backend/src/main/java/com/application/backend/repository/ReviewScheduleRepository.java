@@ -0,0 +1,92 @@
+package com.application.backend.repository;
+
+import com.application.backend.dto.ReviewItem;
+import com.application.backend.model.ReviewSchedule;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface ReviewScheduleRepository extends JpaRepository<ReviewSchedule, Long> {
+
+    interface DueSlot {
+        Long getQuestionId();
+        LocalDateTime getDueAt();
+    }
+
+    @Query("select r.questionId as questionId, r.dueAt as dueAt from ReviewSchedule r where r.dueAt is not null")
+    List<DueSlot> findDueSlots();
+
+    @Query("select r.questionId as questionId, r.dueAt as dueAt from ReviewSchedule r " +
+           "where r.dueAt is not null and r.questionId in :ids")
+    List<DueSlot> findDueSlots(@Param("ids") Collection<Long> ids);
+
+    @Query("select new com.application.backend.dto.ReviewItem(q.id, q.topic.id, q.leetcodeNumber, q.title, q.link, " +
+           "q.difficulty, q.isImportant, r.dueAt, r.intervalDays, r.repetitions, r.easeFactor) " +
+           "from ReviewSchedule r join Question q on q.id = r.questionId " +
+           "where r.questionId in :ids")
+    List<ReviewItem> findItems(@Param("ids") Collection<Long> ids);
+
+    /** Schedules the first review of questions that already have a schedule, e.g. after a lapse. */
+    @Modifying
+    @Query("update ReviewSchedule r set r.repetitions = 1, r.intervalDays = 1, r.dueAt = :due " +
+           "where r.questionId in :ids")
+    int restart(@Param("ids") List<Long> ids, @Param("due") LocalDateTime due);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "review_schedules"))
+    @Modifying
+    @Query(value = "insert into review_schedules (question_id, ease_factor, interval_days, repetitions, due_at) " +
+                   "select q.id, :ease, 1, 1, :due from questions q where q.id in (:ids) " +
+                   "on conflict do nothing", nativeQuery = true)
+    int insertFirstReviews(@Param("ids") List<Long> ids,
+                           @Param("ease") double ease,
+                           @Param("due") LocalDateTime due);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "review_schedules"))
+    @Modifying
+    @Query(value = "update review_schedules set repetitions = 0, interval_days = 0, due_at = null, " +
+                   "ease_factor = greatest(:minEase, ease_factor + :easeDelta) " +
+                   "where question_id in (:ids) and due_at is not null", nativeQuery = true)
+    int lapse(@Param("ids") List<Long> ids,
+              @Param("easeDelta") double easeDelta,
+              @Param("minEase") double minEase);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "review_schedules"))
+    @Modifying
+    @Query(value = "delete from review_schedules where question_id not in (select id from questions)",
+           nativeQuery = true)
+    int deleteOrphans();
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "review_schedules"))
+    @Modifying
+    @Query(value = "update review_schedules set due_at = null where due_at is not null " +
+                   "and question_id in (select id from questions where status <> 'DONE')", nativeQuery = true)
+    int suspendNotDone();
+
+    /** DONE questions written around the service get their first review a day after they were last updated. */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "review_schedules"))
+    @Modifying
+    @Query(value = "insert into review_schedules (question_id, ease_factor, interval_days, repetitions, due_at) " +
+                   "select q.id, :ease, 1, 1, coalesce(q.updated_at, q.created_at) + interval '1' day " +
+                   "from questions q where q.status = 'DONE' " +
+                   "and not exists (select 1 from review_schedules r where r.question_id = q.id)", nativeQuery = true)
+    int insertMissing(@Param("ease") double ease);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "review_schedules"))
+    @Modifying
+    @Query(value = "update review_schedules set repetitions = 1, interval_days = 1, " +
+                   "due_at = (select coalesce(q.updated_at, q.created_at) + interval '1' day from questions q " +
+                   "where q.id = review_schedules.question_id) " +
+                   "where due_at is null and question_id in (select id from questions where status = 'DONE')",
+           nativeQuery = true)
+    int resumeDone();
+}
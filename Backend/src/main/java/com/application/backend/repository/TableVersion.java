@@ -0,0 +1,12 @@
+package com.application.backend.repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * Row count and newest update time of a table; together they change
+ * whenever a row is inserted, updated or deleted.
+ */
+public interface TableVersion {
+    long getCount();
+    LocalDateTime getLastModified();
+}
@@ -0,0 +1,68 @@
+package com.application.backend.repository;
+
+import com.application.backend.model.TopicProgress;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+
+@Repository
+public interface TopicProgressRepository extends JpaRepository<TopicProgress, Long> {
+
+    @Modifying
+    @Query("update TopicProgress p set " +
+           "p.totalQuestions = p.totalQuestions + :total, " +
+           "p.completedQuestions = p.completedQuestions + :completed, " +
+           "p.inProgressQuestions = p.inProgressQuestions + :inProgress, " +
+           "p.todoQuestions = p.todoQuestions + :todo, " +
+           "p.updatedAt = :now " +
+           "where p.topicId = :topicId")
+    int applyDelta(@Param("topicId") Long topicId,
+                   @Param("total") int total,
+                   @Param("completed") int completed,
+                   @Param("inProgress") int inProgress,
+                   @Param("todo") int todo,
+                   @Param("now") LocalDateTime now);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "topic_progress"))
+    @Modifying
+    @Query(value = "insert into topic_progress (topic_id, total_questions, completed_questions, " +
+                   "in_progress_questions, todo_questions, updated_at) " +
+                   "values (:topicId, 0, 0, 0, 0, current_timestamp) on conflict do nothing", nativeQuery = true)
+    int insertIfAbsent(@Param("topicId") Long topicId);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "topic_progress"))
+    @Modifying
+    @Query(value = "update topic_progress set " +
+                   "total_questions = (select count(*) from questions q where q.topic_id = :topicId), " +
+                   "completed_questions = (select count(*) from questions q where q.topic_id = :topicId and q.status = 'DONE'), " +
+                   "in_progress_questions = (select count(*) from questions q where q.topic_id = :topicId and q.status = 'IN_PROGRESS'), " +
+                   "todo_questions = (select count(*) from questions q where q.topic_id = :topicId and q.status = 'TODO'), " +
+                   "updated_at = current_timestamp " +
+                   "where topic_id = :topicId", nativeQuery = true)
+    int recount(@Param("topicId") Long topicId);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "topic_progress"))
+    @Modifying
+    @Query(value = "delete from topic_progress", nativeQuery = true)
+    int deleteAllRows();
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "topic_progress"))
+    @Modifying
+    @Query(value = "insert into topic_progress (topic_id, total_questions, completed_questions, " +
+                   "in_progress_questions, todo_questions, updated_at) " +
+                   "select t.id, count(q.id), " +
+                   "count(case when q.status = 'DONE' then 1 end), " +
+                   "count(case when q.status = 'IN_PROGRESS' then 1 end), " +
+                   "count(case when q.status = 'TODO' then 1 end), " +
+                   "current_timestamp " +
+                   "from topics t left join questions q on q.topic_id = t.id " +
+                   "group by t.id", nativeQuery = true)
+    int insertAllFromQuestions();
+}
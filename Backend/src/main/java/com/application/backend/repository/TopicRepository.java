@@ -1,9 +1,42 @@
 package com.application.backend.repository;
 
+import com.application.backend.dto.TopicResponse;
 import com.application.backend.model.Topic;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
+
 @Repository
 public interface TopicRepository extends JpaRepository<Topic, Long> {
+
+    @Override
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    List<Topic> findAll();
+
+    @Query("select count(t) as count, max(t.updatedAt) as lastModified from Topic t")
+    TableVersion findTableVersion();
+
+    @Query("select new com.application.backend.dto.TopicResponse(t.id, t.name, t.description, t.notes, " +
+           "t.createdAt, t.updatedAt, count(q), " +
+           "count(case when q.status = com.application.backend.model.Question$Status.DONE then 1 end), " +
+           "count(case when q.status = com.application.backend.model.Question$Status.IN_PROGRESS then 1 end), " +
+           "count(case when q.status = com.application.backend.model.Question$Status.TODO then 1 end)) " +
+           "from Topic t left join Question q on q.topic = t " +
+           "group by t.id, t.name, t.description, t.notes, t.createdAt, t.updatedAt " +
+           "order by t.id")
+    List<TopicResponse> findAllWithCounts();
+
+    interface TopicName {
+        Long getId();
+        String getName();
+    }
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    @Query("select t.id as id, t.name as name from Topic t")
+    List<TopicName> findAllNames();
 }
@@ -0,0 +1,18 @@
+package com.application.backend.service;
+
+/**
+ * Validators for a conditional GET: a strong ETag and, where meaningful,
+ * a Last-Modified time in epoch milliseconds (-1 when not applicable).
+ */
+public class DataVersion {
+    private final String etag;
+    private final long lastModified;
+
+    public DataVersion(String etag, long lastModified) {
+        this.etag = etag;
+        this.lastModified = lastModified;
+    }
+
+    public String getEtag() { return etag; }
+    public long getLastModified() { return lastModified; }
+}
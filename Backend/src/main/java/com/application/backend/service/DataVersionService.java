@@ -0,0 +1,89 @@
+package com.application.backend.service;
+
+import com.application.backend.cache.CacheRegistry;
+import com.application.backend.model.Progress;
+import com.application.backend.repository.QuestionRepository;
+import com.application.backend.repository.TableVersion;
+import com.application.backend.repository.TopicRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Derives ETag / Last-Modified validators from the row counts and newest
+ * updatedAt of the questions and topics tables, so unchanged data can be
+ * answered with 304 without loading or serializing it. A delete leaves no
+ * newer updatedAt behind, so Last-Modified also follows the time of the
+ * last committed write, which starts at startup.
+ */
+@Service
+public class DataVersionService {
+    private static final String VERSIONS_CACHE = "versions";
+
+    private final AtomicLong lastWrite = new AtomicLong(System.currentTimeMillis());
+
+    @Autowired
+    private QuestionRepository questionRepository;
+
+    @Autowired
+    private TopicRepository topicRepository;
+
+    @Autowired
+    private ProgressService progressService;
+
+    @Autowired
+    private ReminderService reminderService;
+
+    @Autowired
+    private CacheRegistry cacheRegistry;
+
+    /** Version of anything built from questions and topics. */
+    public DataVersion catalog() {
+        return cacheRegistry.<String, DataVersion>cache(VERSIONS_CACHE).get("catalog", () -> {
+            TableVersion questions = questionRepository.findTableVersion();
+            TableVersion topics = topicRepository.findTableVersion();
+            long lastModified = Math.max(lastWrite.get(),
+                    Math.max(toMillis(questions.getLastModified()), toMillis(topics.getLastModified())));
+            return new DataVersion("\"c" + questions.getCount() + "-" + toMillis(questions.getLastModified())
+                    + "." + topics.getCount() + "-" + toMillis(topics.getLastModified()) + "\"", lastModified);
+        });
+    }
+
+    /** Progress views also depend on the calendar day and on counter reconciliation. */
+    public DataVersion progress() {
+        DataVersion catalog = catalog();
+        Progress stats = progressService.getStats();
+        long lastModified = Math.max(catalog.getLastModified(), toMillis(stats.getUpdatedAt()));
+        return new DataVersion(withSuffix(catalog, LocalDate.now() + "." + toMillis(stats.getUpdatedAt())),
+                lastModified);
+    }
+
+    /**
+     * Upcoming reminders also change as time passes the earliest pending one,
+     * which a modification time cannot express, so only an ETag is produced.
+     */
+    public DataVersion upcomingReminders() {
+        LocalDateTime next = reminderService.getNextReminderTime();
+        return new DataVersion(withSuffix(catalog(), String.valueOf(toMillis(next))), -1);
+    }
+
+    public void evict() {
+        CacheRegistry.afterCommit(() -> {
+            lastWrite.accumulateAndGet(System.currentTimeMillis(), Math::max);
+            cacheRegistry.cache(VERSIONS_CACHE).invalidateAll();
+        });
+    }
+
+    private static String withSuffix(DataVersion version, String suffix) {
+        String etag = version.getEtag();
+        return etag.substring(0, etag.length() - 1) + "." + suffix + "\"";
+    }
+
+    private static long toMillis(LocalDateTime time) {
+        return time == null ? 0 : time.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
@@ -0,0 +1,104 @@
+package com.application.backend.service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedSet;
+import java.util.TreeSet;
+
+/**
+ * Time-ordered set of keys, each scheduled for at most one due time.
+ * Rescheduling or cancelling a key is O(log n), and reading the next
+ * k entries is O(log n + k), so callers never scan everything pending.
+ */
+public class DueQueue<K extends Comparable<K>> {
+    private final TreeSet<Entry<K>> ordered = new TreeSet<>();
+    private final Map<K, Entry<K>> byKey = new HashMap<>();
+
+    public synchronized void schedule(K key, LocalDateTime due) {
+        cancel(key);
+        Entry<K> entry = new Entry<>(due, key);
+        ordered.add(entry);
+        byKey.put(key, entry);
+    }
+
+    public synchronized void cancel(K key) {
+        Entry<K> existing = byKey.remove(key);
+        if (existing != null) {
+            ordered.remove(existing);
+        }
+    }
+
+    /** Removes and returns every key due at or before {@code now}, earliest first. */
+    public synchronized List<K> pollDue(LocalDateTime now) {
+        List<K> due = new ArrayList<>();
+        while (!ordered.isEmpty() && !ordered.first().due().isAfter(now)) {
+            Entry<K> entry = ordered.pollFirst();
+            byKey.remove(entry.key());
+            due.add(entry.key());
+        }
+        return due;
+    }
+
+    /** Returns up to {@code limit} keys, earliest first, without removing them. */
+    public synchronized List<K> peek(int limit) {
+        return firstKeys(ordered, limit);
+    }
+
+    /** Returns up to {@code limit} keys due at or before {@code until}, earliest first, without removing them. */
+    public synchronized List<K> peekUntil(LocalDateTime until, int limit) {
+        return firstKeys(ordered.headSet(new Entry<>(until, null), false), limit);
+    }
+
+    /** Returns up to {@code limit} keys due after {@code after}, earliest first, without removing them. */
+    public synchronized List<K> peekAfter(LocalDateTime after, int limit) {
+        return firstKeys(ordered.tailSet(new Entry<>(after, null), false), limit);
+    }
+
+    /** Due time of the earliest entry after {@code after}, or null if there is none. */
+    public synchronized LocalDateTime nextDueAfter(LocalDateTime after) {
+        Entry<K> next = ordered.higher(new Entry<>(after, null));
+        return next != null ? next.due() : null;
+    }
+
+    public synchronized LocalDateTime dueTime(K key) {
+        Entry<K> entry = byKey.get(key);
+        return entry != null ? entry.due() : null;
+    }
+
+    public synchronized int size() {
+        return byKey.size();
+    }
+
+    public synchronized void clear() {
+        ordered.clear();
+        byKey.clear();
+    }
+
+    private static <K extends Comparable<K>> List<K> firstKeys(SortedSet<Entry<K>> entries, int limit) {
+        List<K> keys = new ArrayList<>();
+        Iterator<Entry<K>> iterator = entries.iterator();
+        while (iterator.hasNext() && keys.size() < limit) {
+            keys.add(iterator.next().key());
+        }
+        return keys;
+    }
+
+    // A null key is only used as a search bound and sorts after every real key with the same due time
+    private record Entry<K extends Comparable<K>>(LocalDateTime due, K key) implements Comparable<Entry<K>> {
+        @Override
+        public int compareTo(Entry<K> other) {
+            int byDue = due.compareTo(other.due);
+            if (byDue != 0) {
+                return byDue;
+            }
+            if (key == null || other.key == null) {
+                return key == other.key ? 0 : (key == null ? 1 : -1);
+            }
+            return key.compareTo(other.key);
+        }
+    }
+}
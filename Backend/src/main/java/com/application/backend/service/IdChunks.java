@@ -0,0 +1,23 @@
+package com.application.backend.service;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Splits id lists for {@code in (...)} queries, keeping each statement well
+ * under driver bind-parameter limits.
+ */
+final class IdChunks {
+    static final int SIZE = 1000;
+
+    private IdChunks() {}
+
+    /** Consecutive views of at most {@link #SIZE} ids; they share the list's storage. */
+    static List<List<Long>> of(List<Long> ids) {
+        List<List<Long>> chunks = new ArrayList<>();
+        for (int i = 0; i < ids.size(); i += SIZE) {
+            chunks.add(ids.subList(i, Math.min(i + SIZE, ids.size())));
+        }
+        return chunks;
+    }
+}
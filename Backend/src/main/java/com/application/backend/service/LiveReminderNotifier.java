@@ -0,0 +1,16 @@
+package com.application.backend.service;
+
+import com.application.backend.model.Question;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+@Component
+public class LiveReminderNotifier implements ReminderNotifier {
+    @Autowired
+    private LiveUpdateService liveUpdateService;
+
+    @Override
+    public void notify(Question question) {
+        liveUpdateService.publish("reminder", question);
+    }
+}
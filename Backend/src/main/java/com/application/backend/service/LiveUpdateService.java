@@ -0,0 +1,204 @@
+package com.application.backend.service;
+
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Fans server-sent events out to connected dashboards. Each client has its
+ * own buffer and at most one send in flight, so a slow client never holds
+ * up the others or the write path. State events (progress, today, upcoming)
+ * keep only the latest value per name; discrete events (due reminders) queue
+ * up to {@code live.stream.buffer-size}, and a client that overflows loses
+ * the oldest ones and is sent a {@code resync} event to refetch.
+ */
+@Service
+public class LiveUpdateService {
+    private static final Logger log = LoggerFactory.getLogger(LiveUpdateService.class);
+
+    @Value("${live.stream.buffer-size:32}")
+    private int bufferSize;
+
+    @Value("${live.stream.max-clients:500}")
+    private int maxClients;
+
+    @Value("${live.stream.timeout:PT30M}")
+    private Duration timeout;
+
+    private final Set<Client> clients = ConcurrentHashMap.newKeySet();
+    // Slots are reserved before a client is added, so concurrent connects cannot overshoot the limit
+    private final AtomicInteger open = new AtomicInteger();
+    private final ExecutorService sender = Executors.newVirtualThreadPerTaskExecutor();
+
+    /**
+     * Opens a stream that starts with the given state events, or returns
+     * null when {@code live.stream.max-clients} streams are already open.
+     */
+    public SseEmitter subscribe(Map<String, Object> initialState) {
+        if (open.incrementAndGet() > maxClients) {
+            open.decrementAndGet();
+            return null;
+        }
+        SseEmitter emitter = new SseEmitter(timeout.toMillis());
+        Client client = new Client(emitter);
+        emitter.onCompletion(() -> drop(client));
+        emitter.onTimeout(() -> drop(client));
+        emitter.onError(error -> drop(client));
+        clients.add(client);
+        initialState.forEach(client::offerState);
+        schedule(client);
+        return emitter;
+    }
+
+    public boolean hasSubscribers() {
+        return !clients.isEmpty();
+    }
+
+    public int getSubscriberCount() {
+        return clients.size();
+    }
+
+    /** Sends the latest value of {@code name}, replacing any value a client has not received yet. */
+    public void publishState(String name, Object data) {
+        for (Client client : clients) {
+            client.offerState(name, data);
+            schedule(client);
+        }
+    }
+
+    /** Queues a discrete event for every client. */
+    public void publish(String name, Object data) {
+        for (Client client : clients) {
+            client.offerEvent(name, data, bufferSize);
+            schedule(client);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${live.stream.heartbeat:PT30S}")
+    public void heartbeat() {
+        // A comment keeps proxies from closing idle streams and detects dead clients
+        for (Client client : clients) {
+            client.offerState(Client.HEARTBEAT, null);
+            schedule(client);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        sender.shutdownNow();
+        for (Client client : clients) {
+            client.emitter.complete();
+        }
+        clients.clear();
+    }
+
+    private void schedule(Client client) {
+        if (client.startDrain()) {
+            try {
+                sender.execute(() -> drain(client));
+            } catch (RuntimeException e) {
+                // Shutting down
+                client.finishDrain();
+            }
+        }
+    }
+
+    /** Removes a client and frees its slot; the completion, timeout and error callbacks may all fire. */
+    private void drop(Client client) {
+        if (clients.remove(client)) {
+            open.decrementAndGet();
+        }
+    }
+
+    private void drain(Client client) {
+        SseEmitter.SseEventBuilder event;
+        while ((event = client.next()) != null) {
+            try {
+                client.emitter.send(event);
+            } catch (IOException | IllegalStateException e) {
+                log.debug("Dropping live update client: {}", e.getMessage());
+                drop(client);
+                client.emitter.completeWithError(e);
+                return;
+            }
+        }
+    }
+
+    private static final class Client {
+        static final String HEARTBEAT = "";
+
+        final SseEmitter emitter;
+        private final Map<String, Object> latest = new LinkedHashMap<>();
+        private final ArrayDeque<Map.Entry<String, Object>> events = new ArrayDeque<>();
+        private boolean overflowed;
+        private boolean draining;
+
+        Client(SseEmitter emitter) {
+            this.emitter = emitter;
+        }
+
+        synchronized void offerState(String name, Object data) {
+            latest.remove(name);
+            latest.put(name, data);
+        }
+
+        synchronized void offerEvent(String name, Object data, int capacity) {
+            if (events.size() >= capacity) {
+                events.pollFirst();
+                overflowed = true;
+            }
+            events.addLast(Map.entry(name, data));
+        }
+
+        synchronized boolean startDrain() {
+            if (draining) {
+                return false;
+            }
+            draining = true;
+            return true;
+        }
+
+        synchronized void finishDrain() {
+            draining = false;
+        }
+
+        /** Takes the next event to send, or ends the drain when nothing is buffered. */
+        synchronized SseEmitter.SseEventBuilder next() {
+            if (overflowed) {
+                overflowed = false;
+                return SseEmitter.event().name("resync").data("events were dropped");
+            }
+            Map.Entry<String, Object> event = events.pollFirst();
+            if (event == null) {
+                Iterator<Map.Entry<String, Object>> oldest = latest.entrySet().iterator();
+                if (!oldest.hasNext()) {
+                    draining = false;
+                    return null;
+                }
+                Map.Entry<String, Object> state = oldest.next();
+                oldest.remove();
+                if (HEARTBEAT.equals(state.getKey())) {
+                    return SseEmitter.event().comment("heartbeat");
+                }
+                return SseEmitter.event().name(state.getKey()).data(state.getValue());
+            }
+            return SseEmitter.event().name(event.getKey()).data(event.getValue());
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package com.application.backend.service;
+
+import com.application.backend.model.Question;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+@Component
+public class LoggingReminderNotifier implements ReminderNotifier {
+    private static final Logger log = LoggerFactory.getLogger(LoggingReminderNotifier.class);
+
+    @Override
+    public void notify(Question question) {
+        log.info("Reminder due for question {} (#{} {}) at {}", question.getId(),
+                question.getLeetcodeNumber(), question.getTitle(), question.getReminderDateTime());
+    }
+}
@@ -0,0 +1,273 @@
+package com.application.backend.service;
+
+import com.application.backend.dto.ProgressFactBucket;
+import com.application.backend.model.ProgressFact;
+import com.application.backend.model.Question;
+import com.application.backend.repository.ProgressFactCellRepository;
+import com.application.backend.repository.ProgressFactRepository;
+import com.application.backend.repository.QuestionRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * Maintains the {@code progress_facts} time series: status counts per
+ * (topic, difficulty) cell, written only on days a cell changes. Question
+ * writes adjust today's row of the affected cells in the same transaction;
+ * a range read starts from each cell's last row before the range and walks
+ * forward, rolling cells up into the requested periods and groups. A cell's
+ * first row also registers it in {@code progress_fact_cells}, which those
+ * reads start from.
+ */
+@Service
+public class ProgressFactService {
+    private static final int TOTAL = 0;
+    private static final int COMPLETED = 1;
+    private static final int IN_PROGRESS = 2;
+    private static final int TODO = 3;
+
+    private static final Comparator<Cell> GROUP_ORDER = Comparator
+            .comparing(Cell::topicId, Comparator.nullsFirst(Comparator.<Long>naturalOrder()))
+            .thenComparing(Cell::difficulty, Comparator.nullsFirst(Comparator.<Question.Difficulty>naturalOrder()));
+
+    public enum Granularity {
+        DAY, WEEK, MONTH
+    }
+
+    public enum Dimension {
+        TOTAL, TOPIC, DIFFICULTY, TOPIC_AND_DIFFICULTY
+    }
+
+    @Autowired
+    private ProgressFactRepository progressFactRepository;
+
+    @Autowired
+    private ProgressFactCellRepository progressFactCellRepository;
+
+    @Autowired
+    private QuestionRepository questionRepository;
+
+    /**
+     * Moves one question between cells and statuses; every argument on the
+     * side that does not exist (before a create, after a delete) is null.
+     */
+    @Transactional
+    public void record(Long fromTopicId, Question.Difficulty fromDifficulty, Question.Status from,
+                       Long toTopicId, Question.Difficulty toDifficulty, Question.Status to) {
+        Cell source = fromTopicId != null ? new Cell(fromTopicId, fromDifficulty) : null;
+        Cell target = toTopicId != null ? new Cell(toTopicId, toDifficulty) : null;
+        if (Objects.equals(source, target)) {
+            if (target != null && from != to) {
+                apply(target, 0, from, to, 1);
+            }
+            return;
+        }
+        if (source != null) {
+            apply(source, -1, from, null, 1);
+        }
+        if (target != null) {
+            apply(target, 1, null, to, 1);
+        }
+    }
+
+    /** Moves {@code count} questions of one cell from one status to another. */
+    @Transactional
+    public void recordStatusChange(Long topicId, Question.Difficulty difficulty,
+                                   Question.Status from, Question.Status to, int count) {
+        if (from != to && count > 0) {
+            apply(new Cell(topicId, difficulty), 0, from, to, count);
+        }
+    }
+
+    /** Registers cells written before the cell table existed, then snapshots. */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void start() {
+        progressFactCellRepository.insertMissing();
+        snapshot();
+    }
+
+    /**
+     * Writes today's row for every cell whose live counts differ from its
+     * last recorded row. Seeds the series on first start and corrects it
+     * after set-based writes or any drift.
+     */
+    @Scheduled(fixedDelayString = "${progress.reconcile.interval:PT1H}",
+               initialDelayString = "${progress.reconcile.interval:PT1H}")
+    @Transactional
+    public int snapshot() {
+        LocalDate today = LocalDate.now();
+        Map<Cell, int[]> live = new HashMap<>();
+        for (QuestionRepository.CellCount row : questionRepository.countGroupedByCell()) {
+            int[] counts = live.computeIfAbsent(new Cell(row.getTopicId(), row.getDifficulty()), cell -> new int[4]);
+            counts[TOTAL] += (int) row.getCount();
+            counts[statusIndex(row.getStatus())] += (int) row.getCount();
+        }
+        Map<Cell, int[]> recorded = new HashMap<>();
+        for (ProgressFact fact : progressFactRepository.findLatestBefore(today.plusDays(1), null, null)) {
+            recorded.put(cellOf(fact), countsOf(fact));
+        }
+
+        Set<Cell> cells = new HashSet<>(live.keySet());
+        cells.addAll(recorded.keySet());
+        int written = 0;
+        for (Cell cell : cells) {
+            int[] counts = live.getOrDefault(cell, new int[4]);
+            if (Arrays.equals(counts, recorded.getOrDefault(cell, new int[4]))) {
+                continue;
+            }
+            if (!recorded.containsKey(cell)) {
+                register(cell);
+            }
+            if (insert(today, cell, counts) == 0) {
+                progressFactRepository.overwrite(today, cell.topicId(), cell.difficulty(),
+                        counts[TOTAL], counts[COMPLETED], counts[IN_PROGRESS], counts[TODO]);
+            }
+            written++;
+        }
+        return written;
+    }
+
+    /**
+     * End-of-period counts between {@code start} and {@code end} (capped at
+     * today), optionally restricted to one topic and/or difficulty. Periods
+     * are calendar weeks (Monday to Sunday) or months clipped to the range.
+     */
+    @Transactional(readOnly = true)
+    public List<ProgressFactBucket> getFacts(LocalDate start, LocalDate end, Granularity granularity,
+                                             Dimension dimension, Long topicId, Question.Difficulty difficulty) {
+        LocalDate last = end.isAfter(LocalDate.now()) ? LocalDate.now() : end;
+        List<ProgressFactBucket> buckets = new ArrayList<>();
+        if (start.isAfter(last)) {
+            return buckets;
+        }
+
+        Map<Cell, int[]> state = new HashMap<>();
+        for (ProgressFact fact : progressFactRepository.findLatestBefore(start, topicId, difficulty)) {
+            state.put(cellOf(fact), countsOf(fact));
+        }
+        List<ProgressFact> changes = progressFactRepository.findBetween(start, last, topicId, difficulty);
+
+        int next = 0;
+        for (LocalDate periodStart = start; !periodStart.isAfter(last); ) {
+            LocalDate periodEnd = periodEnd(periodStart, granularity);
+            if (periodEnd.isAfter(last)) {
+                periodEnd = last;
+            }
+            for (; next < changes.size() && !changes.get(next).getDate().isAfter(periodEnd); next++) {
+                ProgressFact fact = changes.get(next);
+                state.put(cellOf(fact), countsOf(fact));
+            }
+
+            Map<Cell, int[]> groups = new TreeMap<>(GROUP_ORDER);
+            for (Map.Entry<Cell, int[]> entry : state.entrySet()) {
+                int[] sum = groups.computeIfAbsent(groupOf(entry.getKey(), dimension), group -> new int[4]);
+                for (int i = 0; i < sum.length; i++) {
+                    sum[i] += entry.getValue()[i];
+                }
+            }
+            if (groups.isEmpty() && dimension == Dimension.TOTAL) {
+                groups.put(new Cell(null, null), new int[4]);
+            }
+            for (Map.Entry<Cell, int[]> group : groups.entrySet()) {
+                int[] counts = group.getValue();
+                // Cells emptied before the range (e.g. of deleted topics) would only add zero series
+                if (counts[TOTAL] == 0 && dimension != Dimension.TOTAL) {
+                    continue;
+                }
+                buckets.add(new ProgressFactBucket(periodStart, periodEnd, group.getKey().topicId(),
+                        group.getKey().difficulty(), counts[TOTAL], counts[COMPLETED], counts[IN_PROGRESS], counts[TODO]));
+            }
+            periodStart = periodEnd.plusDays(1);
+        }
+        return buckets;
+    }
+
+    private void apply(Cell cell, int total, Question.Status from, Question.Status to, int count) {
+        LocalDate today = LocalDate.now();
+        total *= count;
+        int completed = count * delta(from, to, Question.Status.DONE);
+        int inProgress = count * delta(from, to, Question.Status.IN_PROGRESS);
+        int todo = count * delta(from, to, Question.Status.TODO);
+        if (progressFactRepository.applyDelta(today, cell.topicId(), cell.difficulty(),
+                total, completed, inProgress, todo) > 0) {
+            return;
+        }
+        // First change of this cell today: carry its last row forward, then apply the change
+        int[] counts = progressFactRepository
+                .findTopByTopicIdAndDifficultyAndDateLessThanOrderByDateDesc(cell.topicId(), cell.difficulty(), today)
+                .map(ProgressFactService::countsOf)
+                .orElseGet(() -> {
+                    register(cell);
+                    return new int[4];
+                });
+        insert(today, cell, counts);
+        progressFactRepository.applyDelta(today, cell.topicId(), cell.difficulty(), total, completed, inProgress, todo);
+    }
+
+    private void register(Cell cell) {
+        progressFactCellRepository.insertIfAbsent(cell.topicId(), cell.difficulty().name());
+    }
+
+    private int insert(LocalDate date, Cell cell, int[] counts) {
+        return progressFactRepository.insertIfAbsent(date, cell.topicId(), cell.difficulty().name(),
+                counts[TOTAL], counts[COMPLETED], counts[IN_PROGRESS], counts[TODO]);
+    }
+
+    private static LocalDate periodEnd(LocalDate periodStart, Granularity granularity) {
+        return switch (granularity) {
+            case DAY -> periodStart;
+            case WEEK -> periodStart.with(TemporalAdjusters.nextOrSame(DayOfWeek.SUNDAY));
+            case MONTH -> periodStart.with(TemporalAdjusters.lastDayOfMonth());
+        };
+    }
+
+    private static Cell groupOf(Cell cell, Dimension dimension) {
+        return switch (dimension) {
+            case TOTAL -> new Cell(null, null);
+            case TOPIC -> new Cell(cell.topicId(), null);
+            case DIFFICULTY -> new Cell(null, cell.difficulty());
+            case TOPIC_AND_DIFFICULTY -> cell;
+        };
+    }
+
+    private static Cell cellOf(ProgressFact fact) {
+        return new Cell(fact.getTopicId(), fact.getDifficulty());
+    }
+
+    private static int[] countsOf(ProgressFact fact) {
+        return new int[] {fact.getTotalQuestions(), fact.getCompletedQuestions(),
+                fact.getInProgressQuestions(), fact.getTodoQuestions()};
+    }
+
+    private static int statusIndex(Question.Status status) {
+        return switch (status) {
+            case DONE -> COMPLETED;
+            case IN_PROGRESS -> IN_PROGRESS;
+            case TODO -> TODO;
+        };
+    }
+
+    private static int delta(Question.Status from, Question.Status to, Question.Status counted) {
+        return (to == counted ? 1 : 0) - (from == counted ? 1 : 0);
+    }
+
+    private record Cell(Long topicId, Question.Difficulty difficulty) {}
+}
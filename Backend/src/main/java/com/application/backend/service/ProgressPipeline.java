@@ -0,0 +1,152 @@
+package com.application.backend.service;
+
+import com.application.backend.cache.CacheRegistry;
+import com.application.backend.model.Question;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Moves progress bookkeeping off the write path. Committed status changes
+ * are summed into one pending delta; the first change opens a window of
+ * {@code progress.pipeline.debounce}, after which a single flush applies
+ * everything collected so far. Only one flush runs at a time, and a
+ * requested recompute supersedes any pending delta.
+ */
+@Component
+public class ProgressPipeline {
+    private static final Logger log = LoggerFactory.getLogger(ProgressPipeline.class);
+
+    @Autowired
+    private ProgressService progressService;
+
+    @Autowired
+    private TaskScheduler taskScheduler;
+
+    @Value("${progress.pipeline.debounce:PT0.5S}")
+    private Duration debounce;
+
+    private final ReentrantLock flushLock = new ReentrantLock();
+    private Pending pending = new Pending();
+    private boolean scheduled;
+
+    /** Records a status change; {@code from} is null on create and {@code to} is null on delete. */
+    public void record(Question.Status from, Question.Status to) {
+        record(from, to, 1);
+    }
+
+    /** Records {@code count} questions making the same status change. */
+    public void record(Question.Status from, Question.Status to, int count) {
+        if (from == to || count == 0) {
+            return;
+        }
+        CacheRegistry.afterCommit(() -> {
+            synchronized (this) {
+                pending.total += count * ((to != null ? 1 : 0) - (from != null ? 1 : 0));
+                pending.completed += count * delta(from, to, Question.Status.DONE);
+                pending.inProgress += count * delta(from, to, Question.Status.IN_PROGRESS);
+                pending.todo += count * delta(from, to, Question.Status.TODO);
+            }
+            schedule();
+        });
+    }
+
+    /** Asks for a full recount, e.g. after a set-based write. */
+    public void requestRecompute() {
+        CacheRegistry.afterCommit(() -> {
+            synchronized (this) {
+                pending.recompute = true;
+            }
+            schedule();
+        });
+    }
+
+    /**
+     * Applies everything recorded so far, waiting for an in-flight flush
+     * first. Callers that need read-your-writes stats call this before reading.
+     */
+    public void flush() {
+        flushLock.lock();
+        try {
+            Pending batch;
+            synchronized (this) {
+                if (pending.isEmpty()) {
+                    return;
+                }
+                batch = pending;
+                pending = new Pending();
+            }
+            try {
+                if (batch.recompute) {
+                    progressService.updateStats();
+                } else {
+                    progressService.applyDelta(batch.total, batch.completed, batch.inProgress, batch.todo);
+                }
+            } catch (RuntimeException e) {
+                // The delta is lost with the failed transaction, so fall back to a recount
+                log.warn("Progress flush failed, scheduling a recount", e);
+                requestRecompute();
+            }
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    /**
+     * Periodic recount. It goes through the pipeline so that it replaces any
+     * delta still waiting for its window: those changes are already
+     * committed and the recount includes them, so applying them as well
+     * would count them twice.
+     */
+    @Scheduled(fixedDelayString = "${progress.reconcile.interval:PT1H}",
+               initialDelayString = "${progress.reconcile.interval:PT1H}")
+    public void reconcile() {
+        requestRecompute();
+        flush();
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    private void schedule() {
+        synchronized (this) {
+            if (scheduled) {
+                return;
+            }
+            scheduled = true;
+        }
+        taskScheduler.schedule(() -> {
+            synchronized (this) {
+                scheduled = false;
+            }
+            flush();
+        }, Instant.now().plus(debounce));
+    }
+
+    private static int delta(Question.Status from, Question.Status to, Question.Status counted) {
+        return (to == counted ? 1 : 0) - (from == counted ? 1 : 0);
+    }
+
+    private static class Pending {
+        int total;
+        int completed;
+        int inProgress;
+        int todo;
+        boolean recompute;
+
+        boolean isEmpty() {
+            return !recompute && total == 0 && completed == 0 && inProgress == 0 && todo == 0;
+        }
+    }
+}
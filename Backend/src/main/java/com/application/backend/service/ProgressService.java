@@ -1,5 +1,6 @@
 package com.application.backend.service;
 
+import com.application.backend.cache.CacheRegistry;
 import com.application.backend.model.Question;
 import com.application.backend.model.Progress;
 import com.application.backend.model.ProgressHistory;
@@ -7,17 +8,29 @@ import com.application.backend.dto.DailyCompletionDto;
 import com.application.backend.repository.ProgressRepository;
 import com.application.backend.repository.ProgressHistoryRepository;
 import com.application.backend.repository.QuestionRepository;
+import com.application.backend.repository.QuestionStatusEventRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.ArrayList;
 
 @Service
 public class ProgressService {
+    private static final String STATS_CACHE = "progress.stats";
+    private static final String TODAY_CACHE = "progress.today";
+    private static final String HISTORY_CACHE = "progress.history";
+    private static final String COMPLETIONS_CACHE = "progress.completions";
+
     @Autowired
     private ProgressRepository progressRepository;
 
@@ -27,62 +40,162 @@ public class ProgressService {
     @Autowired
     private QuestionRepository questionRepository;
 
+    @Autowired
+    private QuestionStatusEventRepository questionStatusEventRepository;
+
+    @Autowired
+    private CacheRegistry cacheRegistry;
+
+    @Autowired
+    private LiveUpdateService liveUpdateService;
+
     public Progress getStats() {
-        Optional<Progress> progress = progressRepository.findById(1L);
-        if (progress.isPresent()) {
-            return progress.get();
-        }
-        return initializeProgress();
+        return cacheRegistry.<String, Progress>cache(STATS_CACHE).get("stats", () -> {
+            Optional<Progress> progress = progressRepository.findById(1L);
+            if (progress.isPresent()) {
+                return progress.get();
+            }
+            return updateStats();
+        });
     }
 
+    /**
+     * Re-derives the counters from a grouped count over the questions table.
+     * Used on demand and, through {@link ProgressPipeline#reconcile()}, by the
+     * periodic reconciliation to correct any drift left behind by the incremental path.
+     */
+    @Transactional
     public Progress updateStats() {
-        List<Question> allQuestions = questionRepository.findAll();
-        
-        Progress progress = progressRepository.findById(1L).orElseGet(() -> {
-            Progress newProgress = new Progress();
-            newProgress.setId(1L);
-            return newProgress;
-        });
-
-        progress.setTotalQuestions(allQuestions.size());
-        progress.setCompletedQuestions((int) allQuestions.stream()
-                .filter(q -> q.getStatus() == Question.Status.DONE)
-                .count());
-        progress.setInProgressQuestions((int) allQuestions.stream()
-                .filter(q -> q.getStatus() == Question.Status.IN_PROGRESS)
-                .count());
-        progress.setTodoQuestions((int) allQuestions.stream()
-                .filter(q -> q.getStatus() == Question.Status.TODO)
-                .count());
+        Progress progress = progressRepository.findById(1L).orElseGet(this::initializeProgress);
+        countStatuses(progress);
 
         Progress saved = progressRepository.save(progress);
         
         // Record today's progress in history
         recordDailyProgress(saved);
+        evictProgress();
         
         return saved;
     }
 
+    /**
+     * Applies a summed set of status changes to the progress counters and
+     * today's history row. Called by {@link ProgressPipeline} once per flush.
+     */
+    @Transactional
+    public void applyDelta(int total, int completed, int inProgress, int todo) {
+        evictProgress();
+        if (progressRepository.applyDelta(1L, total, completed, inProgress, todo, LocalDateTime.now()) == 0) {
+            // Nothing to increment yet, so derive the counters from scratch
+            updateStats();
+            return;
+        }
+        if (progressHistoryRepository.applyDelta(LocalDate.now(), total, completed, inProgress, todo) == 0) {
+            progressRepository.findById(1L).ifPresent(this::recordDailyProgress);
+        }
+    }
+
+    /**
+     * Drops cached completion counts for every range covering one of the
+     * given days. Only a move into DONE adds a completion.
+     */
+    public void evictCompletions(LocalDate... days) {
+        CacheRegistry.afterCommit(() -> cacheRegistry.<DateRange, List<DailyCompletionDto>>cache(COMPLETIONS_CACHE)
+                .invalidateIf(range -> range.containsAny(days)));
+    }
+
+    /**
+     * Drops every cached completion count. A question that leaves DONE or is
+     * deleted takes its completion off whichever day it was counted on.
+     */
+    public void evictAllCompletions() {
+        CacheRegistry.afterCommit(() -> cacheRegistry.cache(COMPLETIONS_CACHE).invalidateAll());
+    }
+
+    private void evictProgress() {
+        LocalDate today = LocalDate.now();
+        CacheRegistry.afterCommit(() -> {
+            cacheRegistry.cache(STATS_CACHE).invalidateAll();
+            cacheRegistry.cache(TODAY_CACHE).invalidateAll();
+            cacheRegistry.<DateRange, List<ProgressHistory>>cache(HISTORY_CACHE)
+                    .invalidateIf(range -> range.containsAny(today));
+            publishProgress(today);
+        });
+    }
+
+    /** Pushes the committed counters and today's snapshot to open live update streams. */
+    private void publishProgress(LocalDate today) {
+        if (!liveUpdateService.hasSubscribers()) {
+            return;
+        }
+        progressRepository.findById(1L).ifPresent(stats -> liveUpdateService.publishState("progress", stats));
+        progressHistoryRepository.findByDate(today).ifPresent(day -> liveUpdateService.publishState("today", day));
+    }
+
     private void recordDailyProgress(Progress progress) {
         LocalDate today = LocalDate.now();
-        ProgressHistory history = progressHistoryRepository.findByDate(today)
-                .orElseGet(() -> new ProgressHistory(today));
-        
-        history.setTotalQuestions(progress.getTotalQuestions());
-        history.setCompletedQuestions(progress.getCompletedQuestions());
-        history.setInProgressQuestions(progress.getInProgressQuestions());
-        history.setTodoQuestions(progress.getTodoQuestions());
-        
-        progressHistoryRepository.save(history);
+        snapshotThrough(today.minusDays(1));
+        int total = progress.getTotalQuestions();
+        int completed = progress.getCompletedQuestions();
+        int inProgress = progress.getInProgressQuestions();
+        int todo = progress.getTodoQuestions();
+        if (progressHistoryRepository.insertIfAbsent(today, total, completed, inProgress, todo) == 0) {
+            progressHistoryRepository.overwrite(today, total, completed, inProgress, todo);
+        }
+    }
+
+    /**
+     * Writes today's snapshot from the live counters and backfills any days
+     * since the last snapshot with that snapshot's values; a day without a
+     * row is a day without status changes. Runs at midnight and on startup.
+     */
+    @Scheduled(cron = "${progress.snapshot.cron:0 0 0 * * *}")
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void rollOver() {
+        LocalDate today = LocalDate.now();
+        if (snapshotThrough(today.minusDays(1)) > 0) {
+            CacheRegistry.afterCommit(() -> cacheRegistry.cache(HISTORY_CACHE).invalidateAll());
+        }
+        Progress progress = progressRepository.findById(1L).orElseGet(this::updateStats);
+        if (progressHistoryRepository.insertIfAbsent(today, progress.getTotalQuestions(),
+                progress.getCompletedQuestions(), progress.getInProgressQuestions(), progress.getTodoQuestions()) > 0) {
+            evictProgress();
+        }
+    }
+
+    /** Carries the latest snapshot on or before {@code through} forward to that day. */
+    private int snapshotThrough(LocalDate through) {
+        Optional<ProgressHistory> last = progressHistoryRepository.findTopByDateLessThanEqualOrderByDateDesc(through);
+        if (last.isEmpty()) {
+            return 0;
+        }
+        ProgressHistory known = last.get();
+        int inserted = 0;
+        for (LocalDate day = known.getDate().plusDays(1); !day.isAfter(through); day = day.plusDays(1)) {
+            inserted += progressHistoryRepository.insertIfAbsent(day, known.getTotalQuestions(),
+                    known.getCompletedQuestions(), known.getInProgressQuestions(), known.getTodoQuestions());
+        }
+        return inserted;
     }
 
+    @Transactional
     public ProgressHistory getTodayProgress() {
         LocalDate today = LocalDate.now();
-        return progressHistoryRepository.findByDate(today)
-                .orElseGet(() -> computeAndStoreSnapshot(today));
+        return cacheRegistry.<LocalDate, ProgressHistory>cache(TODAY_CACHE).get(today, () ->
+                progressHistoryRepository.findByDate(today).orElseGet(() -> {
+                    // The midnight job has not run yet on this instance
+                    rollOver();
+                    return progressHistoryRepository.findByDate(today).orElseThrow();
+                }));
     }
 
     public List<ProgressHistory> getProgressHistory(LocalDate startDate, LocalDate endDate) {
+        return cacheRegistry.<DateRange, List<ProgressHistory>>cache(HISTORY_CACHE)
+                .get(new DateRange(startDate, endDate), () -> loadProgressHistory(startDate, endDate));
+    }
+
+    private List<ProgressHistory> loadProgressHistory(LocalDate startDate, LocalDate endDate) {
         List<ProgressHistory> existing = progressHistoryRepository.findByDateBetweenOrderByDateAsc(startDate, endDate);
         java.util.Map<LocalDate, ProgressHistory> byDate = new java.util.HashMap<>();
         for (ProgressHistory history : existing) {
@@ -94,6 +207,7 @@ public class ProgressService {
         while (!cursor.isAfter(endDate)) {
             ProgressHistory day = byDate.get(cursor);
             if (day == null) {
+                // Only days before tracking began (or in the future) have no snapshot
                 day = new ProgressHistory(cursor);
             }
             filled.add(day);
@@ -103,9 +217,12 @@ public class ProgressService {
     }
 
     public List<DailyCompletionDto> getDailyCompletions(LocalDate startDate, LocalDate endDate) {
-        LocalDateTime start = startDate.atStartOfDay();
-        LocalDateTime end = endDate.atTime(23,59,59);
-        var rows = questionRepository.countDailyDoneBetween(start, end);
+        return cacheRegistry.<DateRange, List<DailyCompletionDto>>cache(COMPLETIONS_CACHE)
+                .get(new DateRange(startDate, endDate), () -> loadDailyCompletions(startDate, endDate));
+    }
+
+    private List<DailyCompletionDto> loadDailyCompletions(LocalDate startDate, LocalDate endDate) {
+        var rows = questionStatusEventRepository.countDailyTransitions(Question.Status.DONE, startDate, endDate);
 
         // Map results by date for quick lookup
         java.util.Map<LocalDate, Long> byDate = new java.util.HashMap<>();
@@ -123,48 +240,39 @@ public class ProgressService {
         return result;
     }
 
-    private ProgressHistory computeAndStoreSnapshot(LocalDate date) {
-        List<Question> allQuestions = questionRepository.findAll();
-
-        int total = allQuestions.size();
-        int completed = (int) allQuestions.stream()
-                .filter(q -> q.getStatus() == Question.Status.DONE)
-                .count();
-        int inProgress = (int) allQuestions.stream()
-                .filter(q -> q.getStatus() == Question.Status.IN_PROGRESS)
-                .count();
-        int todo = (int) allQuestions.stream()
-                .filter(q -> q.getStatus() == Question.Status.TODO)
-                .count();
-
-        Progress progress = progressRepository.findById(1L).orElseGet(() -> {
-            Progress newProgress = new Progress();
-            newProgress.setId(1L);
-            return newProgress;
-        });
+    /**
+     * Fills the counters from a single grouped count, so memory stays
+     * proportional to the number of statuses rather than the number of questions.
+     */
+    private void countStatuses(Progress progress) {
+        Map<Question.Status, Long> counts = new EnumMap<>(Question.Status.class);
+        for (QuestionRepository.StatusCount row : questionRepository.countGroupedByStatus()) {
+            counts.put(row.getStatus(), row.getCount());
+        }
 
-        progress.setTotalQuestions(total);
+        int completed = counts.getOrDefault(Question.Status.DONE, 0L).intValue();
+        int inProgress = counts.getOrDefault(Question.Status.IN_PROGRESS, 0L).intValue();
+        int todo = counts.getOrDefault(Question.Status.TODO, 0L).intValue();
+        progress.setTotalQuestions(completed + inProgress + todo);
         progress.setCompletedQuestions(completed);
         progress.setInProgressQuestions(inProgress);
         progress.setTodoQuestions(todo);
-        progressRepository.save(progress);
-
-        ProgressHistory history = new ProgressHistory(date);
-        history.setTotalQuestions(total);
-        history.setCompletedQuestions(completed);
-        history.setInProgressQuestions(inProgress);
-        history.setTodoQuestions(todo);
-
-        return progressHistoryRepository.save(history);
     }
 
     private Progress initializeProgress() {
-        Progress progress = new Progress();
-        progress.setId(1L);
-        progress.setTotalQuestions(0);
-        progress.setCompletedQuestions(0);
-        progress.setInProgressQuestions(0);
-        progress.setTodoQuestions(0);
-        return progressRepository.save(progress);
+        // The id is fixed, so insert directly rather than merging a detached row
+        progressRepository.insertEmpty(1L);
+        return progressRepository.findById(1L).orElseThrow();
+    }
+
+    private record DateRange(LocalDate start, LocalDate end) {
+        boolean containsAny(LocalDate... days) {
+            for (LocalDate day : days) {
+                if (day != null && !day.isBefore(start) && !day.isAfter(end)) {
+                    return true;
+                }
+            }
+            return false;
+        }
     }
 }
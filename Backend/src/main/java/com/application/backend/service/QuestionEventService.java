@@ -0,0 +1,59 @@
+package com.application.backend.service;
+
+import com.application.backend.model.Question;
+import com.application.backend.model.QuestionStatusEvent;
+import com.application.backend.repository.QuestionStatusEventRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Appends to the {@code question_status_events} log. Completion analytics
+ * read from the log, so edits that do not change a question's status no
+ * longer move its completion to another day.
+ */
+@Service
+public class QuestionEventService {
+    private static final Logger log = LoggerFactory.getLogger(QuestionEventService.class);
+
+    @Autowired
+    private QuestionStatusEventRepository questionStatusEventRepository;
+
+    /** Logs the question's move from {@code from} (null on create) to its current status. */
+    @Transactional
+    public void recordStatusChange(Question question, Question.Status from) {
+        if (from == question.getStatus()) {
+            return;
+        }
+        questionStatusEventRepository.save(
+                new QuestionStatusEvent(question.getId(), from, question.getStatus(), LocalDateTime.now()));
+    }
+
+    /** Logs the move of the listed questions to {@code to}; call before their status is changed. */
+    @Transactional
+    public void recordStatusChanges(List<Long> questionIds, Question.Status to, LocalDateTime now) {
+        questionStatusEventRepository.insertTransitions(questionIds, to.name(), now, now.toLocalDate());
+    }
+
+    public List<QuestionStatusEvent> getStatusEvents(Long questionId) {
+        return questionStatusEventRepository.findByQuestionIdOrderByOccurredAtAsc(questionId);
+    }
+
+    /** Covers questions written around the service, such as bulk imports or rows from before the log existed. */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public int backfill() {
+        int added = questionStatusEventRepository.backfillMissing();
+        if (added > 0) {
+            log.info("Backfilled status events for {} questions", added);
+        }
+        return added;
+    }
+}
@@ -1,12 +1,27 @@
 package com.application.backend.service;
 
+import com.application.backend.cache.CacheRegistry;
+import com.application.backend.dto.BulkStatusRequest;
+import com.application.backend.dto.BulkStatusResult;
+import com.application.backend.dto.QuestionList;
+import com.application.backend.dto.QuestionPage;
+import com.application.backend.dto.QuestionSummary;
 import com.application.backend.model.Question;
 import com.application.backend.repository.QuestionRepository;
+import com.application.backend.repository.TopicRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 
 @Service
@@ -14,31 +29,131 @@ public class QuestionService {
     @Autowired
     private QuestionRepository questionRepository;
 
+    @Autowired
+    private ProgressService progressService;
+
+    @Autowired
+    private ProgressPipeline progressPipeline;
+
+    @Autowired
+    private ReminderService reminderService;
+
+    @Autowired
+    private TopicService topicService;
+
+    @Autowired
+    private TopicRepository topicRepository;
+
+    @Autowired
+    private TopicProgressService topicProgressService;
+
+    @Autowired
+    private ProgressFactService progressFactService;
+
+    @Autowired
+    private QuestionEventService questionEventService;
+
+    @Autowired
+    private SearchService searchService;
+
+    @Autowired
+    private ReviewService reviewService;
+
+    @Autowired
+    private DataVersionService dataVersionService;
+
+    @Value("${questions.page.default-size:50}")
+    private int defaultPageSize;
+
+    @Value("${questions.page.max-size:500}")
+    private int maxPageSize;
+
     public List<Question> getAllQuestions() {
-        return questionRepository.findAll();
+        return questionRepository.findAllWithTopic();
     }
 
     public Optional<Question> getQuestionById(Long id) {
-        return questionRepository.findById(id);
+        return questionRepository.findWithTopicById(id);
     }
 
     public List<Question> getQuestionsByTopic(Long topicId) {
-        return questionRepository.findByTopicId(topicId);
+        return questionRepository.findWithTopicByTopicId(topicId);
+    }
+
+    public QuestionList getQuestionList(boolean includeTopics) {
+        return compact(questionRepository.findAll(), includeTopics);
+    }
+
+    public QuestionList getQuestionListByTopic(Long topicId, boolean includeTopics) {
+        return compact(questionRepository.findByTopicId(topicId), includeTopics);
+    }
+
+    public QuestionList getRecentCompletedList(int limit, boolean includeTopics) {
+        return compact(questionRepository.findByStatusOrderByUpdatedAtDesc(
+                Question.Status.DONE, PageRequest.of(0, limit)), includeTopics);
+    }
+
+    private QuestionList compact(List<Question> questions, boolean includeTopics) {
+        QuestionList list = QuestionList.of(questions);
+        if (includeTopics) {
+            list.sideLoad(topicRepository.findAllById(list.topicIds()));
+        }
+        return list;
     }
 
+    /**
+     * Keyset page ordered by id: rows strictly after {@code cursor} that match
+     * the optional filters. One extra row is fetched to tell whether another page exists.
+     */
+    public QuestionPage getQuestionPage(Long topicId, Long cursor, Integer size, Question.Status status,
+                                        Question.Difficulty difficulty, Boolean important) {
+        int pageSize = size == null ? defaultPageSize : Math.max(1, Math.min(size, maxPageSize));
+        List<QuestionSummary> rows = questionRepository.findSummariesAfter(
+                cursor, topicId, status, difficulty, important, pageSize + 1);
+        if (rows.size() <= pageSize) {
+            return new QuestionPage(rows, null);
+        }
+        List<QuestionSummary> items = rows.subList(0, pageSize);
+        return new QuestionPage(items, items.get(pageSize - 1).getId());
+    }
+
+    /** Adds the topics of the page's questions, each once. */
+    public QuestionPage withTopics(QuestionPage page) {
+        page.sideLoad(topicRepository.findAllById(page.topicIds()));
+        return page;
+    }
+
+    @Transactional
     public Question createQuestion(Question question) {
-        return questionRepository.save(question);
+        Question saved = questionRepository.save(question);
+        progressPipeline.record(null, saved.getStatus());
+        topicProgressService.record(null, null, topicId(saved), saved.getStatus());
+        progressFactService.record(null, null, null, topicId(saved), saved.getDifficulty(), saved.getStatus());
+        questionEventService.recordStatusChange(saved, null);
+        reviewService.onStatusChange(saved.getId(), null, saved.getStatus());
+        reminderService.onQuestionSaved(saved);
+        searchService.onQuestionSaved(saved);
+        dataVersionService.evict();
+        topicService.evictTopicCards();
+        if (saved.getStatus() == Question.Status.DONE) {
+            progressService.evictCompletions(LocalDate.now());
+        }
+        return saved;
     }
 
     public List<Question> getRecentCompleted(int limit) {
-        return questionRepository.findByStatusOrderByUpdatedAtDesc(
+        return questionRepository.findWithTopicByStatusOrderByUpdatedAtDesc(
                 Question.Status.DONE,
                 PageRequest.of(0, limit)
         );
     }
 
+    @Transactional
     public Question updateQuestion(Long id, Question questionDetails) {
         return questionRepository.findById(id).map(question -> {
+            Question.Status previousStatus = question.getStatus();
+            Long previousTopicId = topicId(question);
+            Question.Difficulty previousDifficulty = question.getDifficulty();
             question.setTopic(questionDetails.getTopic());
             question.setLeetcodeNumber(questionDetails.getLeetcodeNumber());
             question.setTitle(questionDetails.getTitle());
@@ -47,11 +162,123 @@ public class QuestionService {
             question.setStatus(questionDetails.getStatus());
             question.setIsImportant(questionDetails.getIsImportant());
             question.setReminderDateTime(questionDetails.getReminderDateTime());
-            return questionRepository.save(question);
+            Question saved = questionRepository.save(question);
+            progressPipeline.record(previousStatus, saved.getStatus());
+            topicProgressService.record(previousTopicId, previousStatus, topicId(saved), saved.getStatus());
+            progressFactService.record(previousTopicId, previousDifficulty, previousStatus,
+                    topicId(saved), saved.getDifficulty(), saved.getStatus());
+            questionEventService.recordStatusChange(saved, previousStatus);
+            reviewService.onStatusChange(saved.getId(), previousStatus, saved.getStatus());
+            reminderService.onQuestionSaved(saved);
+            searchService.onQuestionSaved(saved);
+            dataVersionService.evict();
+            if (previousStatus != saved.getStatus() || !Objects.equals(previousTopicId, topicId(saved))) {
+                topicService.evictTopicCards();
+            }
+            if (previousStatus != Question.Status.DONE && saved.getStatus() == Question.Status.DONE) {
+                progressService.evictCompletions(LocalDate.now());
+            } else if (previousStatus == Question.Status.DONE && saved.getStatus() != Question.Status.DONE) {
+                progressService.evictAllCompletions();
+            }
+            return saved;
         }).orElseThrow(() -> new RuntimeException("Question not found"));
     }
 
+    /**
+     * Moves the selected questions to the requested status with one locking
+     * read and one set-based update per chunk of ids, then applies the
+     * summed status changes to the counters, rollups and facts once.
+     */
+    @Transactional
+    public BulkStatusResult updateStatuses(BulkStatusRequest request) {
+        Question.Status to = request.getStatus();
+        List<QuestionRepository.StatusRow> rows = new ArrayList<>();
+        if (request.getIds() != null && !request.getIds().isEmpty()) {
+            List<Long> ids = request.getIds().stream().filter(Objects::nonNull).distinct().toList();
+            for (List<Long> chunk : IdChunks.of(ids)) {
+                rows.addAll(questionRepository.lockStatusRowsByIds(chunk, to, request.getTopicId(), request.getFromStatus()));
+            }
+        } else {
+            rows.addAll(questionRepository.lockStatusRowsByTopic(request.getTopicId(), to, request.getFromStatus()));
+        }
+        BulkStatusResult result = new BulkStatusResult(to);
+        if (rows.isEmpty()) {
+            return result;
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        for (List<Long> chunk : IdChunks.of(rows.stream().map(QuestionRepository.StatusRow::getId).toList())) {
+            questionEventService.recordStatusChanges(chunk, to, now);
+            questionRepository.updateStatus(chunk, to, now);
+        }
+        reviewService.onStatusChanges(rows.stream().map(QuestionRepository.StatusRow::getId).toList(),
+                rows.stream().filter(row -> row.getStatus() == Question.Status.DONE)
+                        .map(QuestionRepository.StatusRow::getId).toList(),
+                to, now);
+
+        Map<StatusMove, Integer> moves = new HashMap<>();
+        for (QuestionRepository.StatusRow row : rows) {
+            result.recordUpdated(row.getStatus());
+            moves.merge(new StatusMove(row.getTopicId(), row.getDifficulty(), row.getStatus()), 1, Integer::sum);
+        }
+        result.getPrevious().forEach((from, count) -> progressPipeline.record(from, to, count));
+        Map<StatusMove, Integer> topicMoves = new HashMap<>();
+        moves.forEach((move, count) -> {
+            progressFactService.recordStatusChange(move.topicId(), move.difficulty(), move.from(), to, count);
+            topicMoves.merge(new StatusMove(move.topicId(), null, move.from()), count, Integer::sum);
+        });
+        topicMoves.forEach((move, count) ->
+                topicProgressService.recordStatusChange(move.topicId(), move.from(), to, count));
+
+        dataVersionService.evict();
+        topicService.evictTopicCards();
+        if (to == Question.Status.DONE) {
+            progressService.evictCompletions(LocalDate.now());
+        } else if (result.getPrevious().containsKey(Question.Status.DONE)) {
+            progressService.evictAllCompletions();
+        }
+        return result;
+    }
+
+    /**
+     * Refreshes everything derived from the questions table after a set-based
+     * write that bypassed the per-row bookkeeping above.
+     */
+    @Transactional
+    public void afterBulkChange() {
+        progressPipeline.requestRecompute();
+        topicProgressService.rebuild();
+        progressFactService.snapshot();
+        questionEventService.backfill();
+        reviewService.reconcile();
+        progressService.evictCompletions(LocalDate.now());
+        topicService.evictTopicCards();
+        dataVersionService.evict();
+        CacheRegistry.afterCommit(reminderService::loadPendingReminders);
+        searchService.rebuildAfterCommit();
+    }
+
+    @Transactional
     public void deleteQuestion(Long id) {
-        questionRepository.deleteById(id);
+        questionRepository.findById(id).ifPresent(question -> {
+            questionRepository.delete(question);
+            progressPipeline.record(question.getStatus(), null);
+            topicProgressService.record(topicId(question), question.getStatus(), null, null);
+            progressFactService.record(topicId(question), question.getDifficulty(), question.getStatus(), null, null, null);
+            reviewService.onQuestionDeleted(id);
+            reminderService.onQuestionDeleted(id);
+            searchService.onQuestionDeleted(id);
+            dataVersionService.evict();
+            topicService.evictTopicCards();
+            if (question.getStatus() == Question.Status.DONE) {
+                progressService.evictAllCompletions();
+            }
+        });
     }
+
+    private static Long topicId(Question question) {
+        return question.getTopic() != null ? question.getTopic().getId() : null;
+    }
+
+    private record StatusMove(Long topicId, Question.Difficulty difficulty, Question.Status from) {}
 }
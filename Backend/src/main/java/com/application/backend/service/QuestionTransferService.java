@@ -0,0 +1,361 @@
+package com.application.backend.service;
+
+import com.application.backend.dto.BulkImportResult;
+import com.application.backend.dto.QuestionImportRow;
+import com.application.backend.model.Question;
+import com.application.backend.repository.TopicRepository;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Bulk import and export of questions. Imports go straight to JDBC batches
+ * inside one transaction; derived state (progress, reminders, caches) is
+ * refreshed once at the end instead of per row.
+ */
+@Service
+public class QuestionTransferService {
+    static final String[] CSV_COLUMNS = {
+            "id", "topicId", "topic", "leetcodeNumber", "title", "link", "difficulty",
+            "status", "isImportant", "reminderDateTime", "createdAt", "updatedAt"
+    };
+
+    private static final DateTimeFormatter REMINDER_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm");
+
+    private static final String INSERT_SQL =
+            "insert into questions (topic_id, leetcode_number, title, link, difficulty, status, " +
+            "is_important, reminder_date_time, created_at, updated_at) values (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final String EXPORT_SQL =
+            "select q.id, q.topic_id, t.name, q.leetcode_number, q.title, q.link, q.difficulty, q.status, " +
+            "q.is_important, q.reminder_date_time, q.created_at, q.updated_at " +
+            "from questions q join topics t on t.id = q.topic_id order by q.id";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TopicRepository topicRepository;
+
+    @Autowired
+    private QuestionService questionService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Value("${questions.import.batch-size:500}")
+    private int batchSize;
+
+    @Value("${questions.export.fetch-size:1000}")
+    private int fetchSize;
+
+    @Transactional
+    public BulkImportResult importJson(InputStream body) throws IOException {
+        ImportSession session = new ImportSession();
+        try (JsonParser parser = objectMapper.getFactory().createParser(body)) {
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                throw new IllegalArgumentException("Expected a JSON array of questions");
+            }
+            JsonToken token;
+            while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+                if (token != JsonToken.START_OBJECT) {
+                    session.reject("expected an object");
+                    // Steps over a nested array; a scalar is already consumed
+                    parser.skipChildren();
+                    continue;
+                }
+                JsonNode node = objectMapper.readTree(parser);
+                QuestionImportRow row;
+                try {
+                    row = objectMapper.treeToValue(node, QuestionImportRow.class);
+                } catch (JsonProcessingException e) {
+                    session.reject(e.getOriginalMessage());
+                    continue;
+                }
+                session.add(row);
+            }
+        }
+        return session.finish();
+    }
+
+    @Transactional
+    public BulkImportResult importCsv(InputStream body) throws IOException {
+        ImportSession session = new ImportSession();
+        BufferedReader reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8));
+        List<String> header = CsvCodec.readRecord(reader);
+        if (header == null) {
+            return session.finish();
+        }
+        Map<String, Integer> columns = new HashMap<>();
+        for (int i = 0; i < header.size(); i++) {
+            columns.put(header.get(i).trim().replace("\uFEFF", "").toLowerCase(Locale.ROOT), i);
+        }
+        List<String> record;
+        while ((record = CsvCodec.readRecord(reader)) != null) {
+            if (record.size() == 1 && record.get(0).isBlank()) {
+                continue;
+            }
+            QuestionImportRow row;
+            try {
+                row = toRow(record, columns);
+            } catch (IllegalArgumentException e) {
+                session.reject(e.getMessage());
+                continue;
+            }
+            session.add(row);
+        }
+        return session.finish();
+    }
+
+    @Transactional(readOnly = true)
+    public void exportCsv(OutputStream out) throws IOException {
+        Writer writer = new OutputStreamWriter(out, StandardCharsets.UTF_8);
+        CsvCodec.writeRecord(writer, (Object[]) CSV_COLUMNS);
+        forEachExportRow(values -> CsvCodec.writeRecord(writer, values), writer::flush);
+        writer.flush();
+    }
+
+    /**
+     * Writes the catalog as a JSON array, or as newline-delimited objects when
+     * {@code ndjson} is set. Rows are written as they come off the cursor.
+     */
+    @Transactional(readOnly = true)
+    public void exportJson(OutputStream out, boolean ndjson) throws IOException {
+        JsonGenerator generator = objectMapper.getFactory().createGenerator(out)
+                .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        if (ndjson) {
+            generator.setRootValueSeparator(null);
+        } else {
+            generator.writeStartArray();
+        }
+        forEachExportRow(values -> {
+            generator.writeStartObject();
+            for (int i = 0; i < CSV_COLUMNS.length; i++) {
+                generator.writeFieldName(CSV_COLUMNS[i]);
+                Object value = values[i];
+                if (value == null) {
+                    generator.writeNull();
+                } else if (value instanceof Long number) {
+                    generator.writeNumber(number);
+                } else if (value instanceof Boolean flag) {
+                    generator.writeBoolean(flag);
+                } else {
+                    generator.writeString(value.toString());
+                }
+            }
+            generator.writeEndObject();
+            if (ndjson) {
+                generator.writeRaw('\n');
+            }
+        }, generator::flush);
+        if (!ndjson) {
+            generator.writeEndArray();
+        }
+        generator.close();
+    }
+
+    /**
+     * Streams export rows off a forward-only cursor. {@code flush} runs after
+     * the first row and then once per fetch so the client sees bytes early
+     * without a flush per row.
+     */
+    private void forEachExportRow(RowWriter writer, Flusher flush) throws IOException {
+        JdbcTemplate streaming = new JdbcTemplate(jdbcTemplate.getDataSource());
+        streaming.setFetchSize(fetchSize);
+        Object[] values = new Object[CSV_COLUMNS.length];
+        long[] written = {0};
+        try {
+            streaming.query(EXPORT_SQL, rs -> {
+                Timestamp reminder = rs.getTimestamp(10);
+                Timestamp updatedAt = rs.getTimestamp(12);
+                values[0] = rs.getLong(1);
+                values[1] = rs.getLong(2);
+                values[2] = rs.getString(3);
+                values[3] = rs.getLong(4);
+                values[4] = rs.getString(5);
+                values[5] = rs.getString(6);
+                values[6] = rs.getString(7);
+                values[7] = rs.getString(8);
+                values[8] = rs.getBoolean(9);
+                values[9] = reminder != null ? reminder.toLocalDateTime().format(REMINDER_FORMAT) : null;
+                values[10] = rs.getTimestamp(11).toLocalDateTime();
+                values[11] = updatedAt != null ? updatedAt.toLocalDateTime() : null;
+                try {
+                    writer.write(values);
+                    if (++written[0] == 1 || written[0] % fetchSize == 0) {
+                        flush.flush();
+                    }
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    @FunctionalInterface
+    private interface RowWriter {
+        void write(Object[] values) throws IOException;
+    }
+
+    @FunctionalInterface
+    private interface Flusher {
+        void flush() throws IOException;
+    }
+
+    private QuestionImportRow toRow(List<String> record, Map<String, Integer> columns) {
+        QuestionImportRow row = new QuestionImportRow();
+        String topicId = field(record, columns, "topicid");
+        row.setTopicId(topicId != null ? parseLong(topicId, "topicId") : null);
+        row.setTopic(field(record, columns, "topic"));
+        String number = field(record, columns, "leetcodenumber");
+        row.setLeetcodeNumber(number != null ? parseLong(number, "leetcodeNumber") : null);
+        row.setTitle(field(record, columns, "title"));
+        row.setLink(field(record, columns, "link"));
+        String difficulty = field(record, columns, "difficulty");
+        row.setDifficulty(difficulty != null ? parseEnum(Question.Difficulty.class, difficulty) : null);
+        String status = field(record, columns, "status");
+        row.setStatus(status != null ? parseEnum(Question.Status.class, status) : null);
+        String important = field(record, columns, "isimportant");
+        row.setIsImportant(important != null ? Boolean.valueOf(important) : null);
+        row.setReminderDateTime(field(record, columns, "reminderdatetime"));
+        return row;
+    }
+
+    private static String field(List<String> record, Map<String, Integer> columns, String name) {
+        Integer index = columns.get(name);
+        if (index == null || index >= record.size()) {
+            return null;
+        }
+        String value = record.get(index).trim();
+        return value.isEmpty() ? null : value;
+    }
+
+    private static long parseLong(String value, String name) {
+        try {
+            return Long.parseLong(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("invalid " + name + " '" + value + "'");
+        }
+    }
+
+    private static <E extends Enum<E>> E parseEnum(Class<E> type, String value) {
+        try {
+            return Enum.valueOf(type, value.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("invalid " + type.getSimpleName().toLowerCase(Locale.ROOT)
+                    + " '" + value + "'");
+        }
+    }
+
+    /** Validates rows, resolves topics from a map loaded once, and flushes full batches. */
+    private class ImportSession {
+        private final BulkImportResult result = new BulkImportResult();
+        private final Map<Long, Long> topicIds = new HashMap<>();
+        private final Map<String, Long> topicsByName = new HashMap<>();
+        private final List<Object[]> batch = new ArrayList<>(batchSize);
+        private final Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+        ImportSession() {
+            for (TopicRepository.TopicName topic : topicRepository.findAllNames()) {
+                topicIds.put(topic.getId(), topic.getId());
+                topicsByName.putIfAbsent(topic.getName().trim().toLowerCase(Locale.ROOT), topic.getId());
+            }
+        }
+
+        void reject(String reason) {
+            result.recordReceived();
+            result.recordSkipped(result.getReceived(), reason);
+        }
+
+        void add(QuestionImportRow row) {
+            result.recordReceived();
+            long rowNumber = result.getReceived();
+            Long topicId = row.getTopicId() != null
+                    ? topicIds.get(row.getTopicId())
+                    : row.getTopic() != null ? topicsByName.get(row.getTopic().trim().toLowerCase(Locale.ROOT)) : null;
+            if (topicId == null) {
+                result.recordSkipped(rowNumber, "unknown topic");
+                return;
+            }
+            if (row.getTitle() == null || row.getTitle().isBlank()) {
+                result.recordSkipped(rowNumber, "title is required");
+                return;
+            }
+            if (row.getLeetcodeNumber() == null) {
+                result.recordSkipped(rowNumber, "leetcodeNumber is required");
+                return;
+            }
+            if (row.getDifficulty() == null) {
+                result.recordSkipped(rowNumber, "difficulty is required");
+                return;
+            }
+            if (row.getLink() != null && row.getLink().length() > 500) {
+                result.recordSkipped(rowNumber, "link is longer than 500 characters");
+                return;
+            }
+            Timestamp reminder = null;
+            if (row.getReminderDateTime() != null && !row.getReminderDateTime().isBlank()) {
+                try {
+                    reminder = Timestamp.valueOf(LocalDateTime.parse(row.getReminderDateTime(), REMINDER_FORMAT));
+                } catch (DateTimeParseException e) {
+                    result.recordSkipped(rowNumber, "invalid reminderDateTime '" + row.getReminderDateTime() + "'");
+                    return;
+                }
+            }
+            Question.Status status = row.getStatus() != null ? row.getStatus() : Question.Status.TODO;
+            batch.add(new Object[] {
+                    topicId, row.getLeetcodeNumber(), row.getTitle(), row.getLink(), row.getDifficulty().name(),
+                    status.name(), Boolean.TRUE.equals(row.getIsImportant()), reminder, now, now
+            });
+            if (batch.size() >= batchSize) {
+                flush();
+            }
+        }
+
+        BulkImportResult finish() {
+            flush();
+            if (result.getImported() > 0) {
+                questionService.afterBulkChange();
+            }
+            return result;
+        }
+
+        private void flush() {
+            if (batch.isEmpty()) {
+                return;
+            }
+            jdbcTemplate.batchUpdate(INSERT_SQL, batch);
+            result.recordImported(batch.size());
+            batch.clear();
+        }
+    }
+}
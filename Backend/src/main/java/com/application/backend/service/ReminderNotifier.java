@@ -0,0 +1,11 @@
+package com.application.backend.service;
+
+import com.application.backend.model.Question;
+
+/**
+ * Receives reminders as they fall due. Every bean implementing this
+ * interface is called by {@link ReminderService}.
+ */
+public interface ReminderNotifier {
+    void notify(Question question);
+}
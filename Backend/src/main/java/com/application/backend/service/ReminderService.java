@@ -0,0 +1,147 @@
+package com.application.backend.service;
+
+import com.application.backend.cache.CacheRegistry;
+import com.application.backend.dto.QuestionList;
+import com.application.backend.model.Question;
+import com.application.backend.repository.QuestionRepository;
+import com.application.backend.repository.TopicRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Serves reminder listings from indexed range queries and keeps pending
+ * reminders in a time-ordered in-memory queue, so finding due reminders
+ * only looks at the head of the queue instead of the questions table.
+ */
+@Service
+public class ReminderService {
+    private static final Logger log = LoggerFactory.getLogger(ReminderService.class);
+
+    @Autowired
+    private QuestionRepository questionRepository;
+
+    @Autowired
+    private List<ReminderNotifier> notifiers;
+
+    @Autowired
+    private LiveUpdateService liveUpdateService;
+
+    @Autowired
+    private TopicRepository topicRepository;
+
+    @Value("${reminders.upcoming.max-limit:500}")
+    private int maxUpcomingLimit;
+
+    private final DueQueue<Long> pending = new DueQueue<>();
+
+    public List<Question> getAllReminders() {
+        return questionRepository.findWithTopicByReminderDateTimeIsNotNullOrderByReminderDateTimeAsc();
+    }
+
+    public List<Question> getUpcomingReminders(int limit) {
+        return questionRepository.findWithTopicByReminderDateTimeAfterOrderByReminderDateTimeAsc(
+                LocalDateTime.now(), upcomingPage(limit));
+    }
+
+    public QuestionList getReminderList(boolean includeTopics) {
+        return compact(questionRepository.findByReminderDateTimeIsNotNullOrderByReminderDateTimeAsc(), includeTopics);
+    }
+
+    public QuestionList getUpcomingReminderList(int limit, boolean includeTopics) {
+        return compact(questionRepository.findByReminderDateTimeAfterOrderByReminderDateTimeAsc(
+                LocalDateTime.now(), upcomingPage(limit)), includeTopics);
+    }
+
+    private PageRequest upcomingPage(int limit) {
+        return PageRequest.of(0, Math.max(1, Math.min(limit, maxUpcomingLimit)));
+    }
+
+    private QuestionList compact(List<Question> questions, boolean includeTopics) {
+        QuestionList list = QuestionList.of(questions);
+        if (includeTopics) {
+            list.sideLoad(topicRepository.findAllById(list.topicIds()));
+        }
+        return list;
+    }
+
+    public LocalDateTime getNextReminderTime() {
+        return pending.nextDueAfter(LocalDateTime.now());
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadPendingReminders() {
+        pending.clear();
+        for (QuestionRepository.ReminderSlot slot : questionRepository.findReminderSlotsAfter(LocalDateTime.now())) {
+            pending.schedule(slot.getId(), slot.getReminderDateTime());
+        }
+        log.info("Loaded {} pending reminders", pending.size());
+        publishUpcoming();
+    }
+
+    /** Queues or clears the question's reminder once the write commits; a rolled back write leaves the queue alone. */
+    public void onQuestionSaved(Question question) {
+        Long id = question.getId();
+        LocalDateTime reminder = question.getReminderDateTime();
+        CacheRegistry.afterCommit(() -> {
+            if (reminder != null && reminder.isAfter(LocalDateTime.now())) {
+                pending.schedule(id, reminder);
+            } else {
+                pending.cancel(id);
+            }
+            publishUpcoming();
+        });
+    }
+
+    public void onQuestionDeleted(Long questionId) {
+        CacheRegistry.afterCommit(() -> {
+            pending.cancel(questionId);
+            publishUpcoming();
+        });
+    }
+
+    @Scheduled(fixedDelayString = "${reminders.poll-interval:PT30S}")
+    public void fireDueReminders() {
+        LocalDateTime now = LocalDateTime.now();
+        List<Long> due = pending.pollDue(now);
+        if (due.isEmpty()) {
+            return;
+        }
+        publishUpcoming();
+        // Notifiers publish the question with its topic after this method returns
+        for (Question question : questionRepository.findWithTopicByIdIn(due)) {
+            // Skip reminders moved or cleared by a write that did not reach the queue
+            if (question.getReminderDateTime() == null || question.getReminderDateTime().isAfter(now)) {
+                continue;
+            }
+            for (ReminderNotifier notifier : notifiers) {
+                try {
+                    notifier.notify(question);
+                } catch (RuntimeException e) {
+                    log.warn("Reminder notifier {} failed for question {}", notifier.getClass().getSimpleName(),
+                            question.getId(), e);
+                }
+            }
+        }
+    }
+
+    /**
+     * Tells open live update streams when the next pending reminder is. Only
+     * called once the queue has changed, i.e. after commit or outside a transaction.
+     */
+    private void publishUpcoming() {
+        if (liveUpdateService.hasSubscribers()) {
+            liveUpdateService.publishState("upcoming", Collections.singletonMap("nextReminderAt", getNextReminderTime()));
+        }
+    }
+}
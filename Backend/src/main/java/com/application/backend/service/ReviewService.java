@@ -0,0 +1,253 @@
+package com.application.backend.service;
+
+import com.application.backend.cache.CacheRegistry;
+import com.application.backend.dto.ReviewItem;
+import com.application.backend.model.Question;
+import com.application.backend.model.ReviewSchedule;
+import com.application.backend.repository.QuestionRepository;
+import com.application.backend.repository.ReviewScheduleRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Spaced-repetition review queue using SM-2 intervals. Completing a question
+ * schedules its first review for the next day, each graded review moves it
+ * further out (or back to one day on a failed recall), and reopening it
+ * counts as a lapse that takes it out of the queue. Due times live in the
+ * indexed {@code review_schedules} table and in a time-ordered in-memory
+ * queue, so listing what is due reads only the head of the queue.
+ */
+@Service
+public class ReviewService {
+    private static final Logger log = LoggerFactory.getLogger(ReviewService.class);
+
+    static final double INITIAL_EASE = 2.5;
+    static final double MIN_EASE = 1.3;
+    // Reopening a finished question is graded like a recall that needed the answer
+    static final int LAPSE_QUALITY = 2;
+
+    @Autowired
+    private ReviewScheduleRepository reviewScheduleRepository;
+
+    @Autowired
+    private QuestionRepository questionRepository;
+
+    @Value("${reviews.max-limit:500}")
+    private int maxLimit;
+
+    private final DueQueue<Long> queue = new DueQueue<>();
+
+    /**
+     * The {@code limit} questions due soonest, overdue ones first. The limit
+     * is clamped to 1..{@code reviews.max-limit}.
+     */
+    public List<ReviewItem> getNextDue(int limit) {
+        return items(queue.peek(clamp(limit)));
+    }
+
+    /** Questions due by the end of today, including overdue ones, earliest first, limited as in {@link #getNextDue}. */
+    public List<ReviewItem> getDueToday(int limit) {
+        return items(queue.peekUntil(LocalDate.now().atTime(LocalTime.MAX), clamp(limit)));
+    }
+
+    public int getQueueSize() {
+        return queue.size();
+    }
+
+    /**
+     * Grades a recall of a DONE question and reschedules it. Returns empty for
+     * any other status, since only finished questions are on the schedule.
+     */
+    @Transactional
+    public Optional<ReviewSchedule> recordReview(Long questionId, int quality) {
+        Question question = questionRepository.findById(questionId)
+                .orElseThrow(() -> new RuntimeException("Question not found"));
+        if (question.getStatus() != Question.Status.DONE) {
+            return Optional.empty();
+        }
+        ReviewSchedule schedule = reviewScheduleRepository.findById(questionId)
+                .orElseGet(() -> new ReviewSchedule(questionId, INITIAL_EASE));
+        applyReview(schedule, quality, LocalDateTime.now());
+        ReviewSchedule saved = reviewScheduleRepository.save(schedule);
+        LocalDateTime due = saved.getDueAt();
+        CacheRegistry.afterCommit(() -> queue.schedule(questionId, due));
+        return Optional.of(saved);
+    }
+
+    /** Schedules or suspends reviews for a question whose status went from {@code from} (null on create) to {@code to}. */
+    @Transactional
+    public void onStatusChange(Long questionId, Question.Status from, Question.Status to) {
+        if (from == to || (from != Question.Status.DONE && to != Question.Status.DONE)) {
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        if (to == Question.Status.DONE) {
+            ReviewSchedule schedule = reviewScheduleRepository.findById(questionId)
+                    .orElseGet(() -> new ReviewSchedule(questionId, INITIAL_EASE));
+            startReviews(schedule, now);
+            reviewScheduleRepository.save(schedule);
+            LocalDateTime due = schedule.getDueAt();
+            CacheRegistry.afterCommit(() -> queue.schedule(questionId, due));
+        } else {
+            reviewScheduleRepository.findById(questionId).ifPresent(schedule -> {
+                applyLapse(schedule);
+                reviewScheduleRepository.save(schedule);
+            });
+            CacheRegistry.afterCommit(() -> queue.cancel(questionId));
+        }
+    }
+
+    /**
+     * Set-based form of {@link #onStatusChange} for a bulk move to {@code to};
+     * {@code lapsedIds} are the ones that were DONE before.
+     */
+    @Transactional
+    public void onStatusChanges(List<Long> questionIds, List<Long> lapsedIds, Question.Status to, LocalDateTime now) {
+        if (to == Question.Status.DONE) {
+            LocalDateTime due = now.plusDays(1);
+            for (List<Long> chunk : IdChunks.of(questionIds)) {
+                reviewScheduleRepository.restart(chunk, due);
+                reviewScheduleRepository.insertFirstReviews(chunk, INITIAL_EASE, due);
+            }
+        } else if (!lapsedIds.isEmpty()) {
+            for (List<Long> chunk : IdChunks.of(lapsedIds)) {
+                reviewScheduleRepository.lapse(chunk, easeDelta(LAPSE_QUALITY), MIN_EASE);
+            }
+        } else {
+            return;
+        }
+        List<Long> changed = List.copyOf(to == Question.Status.DONE ? questionIds : lapsedIds);
+        CacheRegistry.afterCommit(() -> refresh(changed));
+    }
+
+    @Transactional
+    public void onQuestionDeleted(Long questionId) {
+        reviewScheduleRepository.deleteById(questionId);
+        CacheRegistry.afterCommit(() -> queue.cancel(questionId));
+    }
+
+    /**
+     * Brings the schedules in line with question statuses after writes that
+     * bypassed the hooks above, such as imports or rows removed with their
+     * topic, then reloads the queue once the transaction commits.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void reconcile() {
+        int removed = reviewScheduleRepository.deleteOrphans();
+        int suspended = reviewScheduleRepository.suspendNotDone();
+        int resumed = reviewScheduleRepository.resumeDone();
+        int added = reviewScheduleRepository.insertMissing(INITIAL_EASE);
+        if (removed + suspended + resumed + added > 0) {
+            log.info("Reconciled review schedules: {} added, {} resumed, {} suspended, {} removed",
+                    added, resumed, suspended, removed);
+        }
+        CacheRegistry.afterCommit(this::loadQueue);
+    }
+
+    private void loadQueue() {
+        queue.clear();
+        for (ReviewScheduleRepository.DueSlot slot : reviewScheduleRepository.findDueSlots()) {
+            queue.schedule(slot.getQuestionId(), slot.getDueAt());
+        }
+        log.info("Loaded {} scheduled reviews", queue.size());
+    }
+
+    private void refresh(List<Long> questionIds) {
+        for (List<Long> chunk : IdChunks.of(questionIds)) {
+            Set<Long> unscheduled = new HashSet<>(chunk);
+            for (ReviewScheduleRepository.DueSlot slot : reviewScheduleRepository.findDueSlots(chunk)) {
+                queue.schedule(slot.getQuestionId(), slot.getDueAt());
+                unscheduled.remove(slot.getQuestionId());
+            }
+            unscheduled.forEach(queue::cancel);
+        }
+    }
+
+    private int clamp(int limit) {
+        return Math.max(1, Math.min(limit, maxLimit));
+    }
+
+    private List<ReviewItem> items(List<Long> questionIds) {
+        if (questionIds.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, ReviewItem> byId = new HashMap<>();
+        for (List<Long> chunk : IdChunks.of(questionIds)) {
+            for (ReviewItem item : reviewScheduleRepository.findItems(chunk)) {
+                byId.put(item.getQuestionId(), item);
+            }
+        }
+        List<ReviewItem> items = new ArrayList<>(questionIds.size());
+        for (Long id : questionIds) {
+            ReviewItem item = byId.get(id);
+            if (item != null) {
+                items.add(item);
+            } else {
+                // Removed along with its topic; the next reconcile deletes the schedule row
+                queue.cancel(id);
+            }
+        }
+        return items;
+    }
+
+    /**
+     * SM-2: a recall graded below 3 starts the repetitions over at one day,
+     * otherwise the interval goes 1, 6, then grows by the ease factor. The
+     * ease factor is adjusted by the grade after the interval is chosen.
+     */
+    static void applyReview(ReviewSchedule schedule, int quality, LocalDateTime now) {
+        if (quality < 3) {
+            schedule.setRepetitions(0);
+            schedule.setIntervalDays(1);
+        } else {
+            int repetitions = schedule.getRepetitions() + 1;
+            schedule.setRepetitions(repetitions);
+            schedule.setIntervalDays(switch (repetitions) {
+                case 1 -> 1;
+                case 2 -> 6;
+                default -> (int) Math.round(schedule.getIntervalDays() * schedule.getEaseFactor());
+            });
+        }
+        schedule.setEaseFactor(Math.max(MIN_EASE, schedule.getEaseFactor() + easeDelta(quality)));
+        schedule.setDueAt(now.plusDays(schedule.getIntervalDays()));
+        schedule.setLastReviewedAt(now);
+        schedule.setLastQuality(quality);
+    }
+
+    /** Completing a question counts as its first successful recall. */
+    static void startReviews(ReviewSchedule schedule, LocalDateTime now) {
+        schedule.setRepetitions(1);
+        schedule.setIntervalDays(1);
+        schedule.setDueAt(now.plusDays(1));
+    }
+
+    static void applyLapse(ReviewSchedule schedule) {
+        schedule.setRepetitions(0);
+        schedule.setIntervalDays(0);
+        schedule.setDueAt(null);
+        schedule.setEaseFactor(Math.max(MIN_EASE, schedule.getEaseFactor() + easeDelta(LAPSE_QUALITY)));
+    }
+
+    static double easeDelta(int quality) {
+        int miss = 5 - quality;
+        return 0.1 - miss * (0.08 + miss * 0.02);
+    }
+}
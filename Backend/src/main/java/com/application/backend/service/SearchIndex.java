@@ -0,0 +1,342 @@
+package com.application.backend.service;
+
+import com.application.backend.dto.SearchHit;
+import com.application.backend.dto.SearchPage;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.regex.Pattern;
+
+/**
+ * In-memory inverted index over question titles, LeetCode numbers and the
+ * names, descriptions and notes of topics. Terms are kept in a sorted
+ * dictionary, so a query token finds its exact and prefix matches with one
+ * range lookup. A token that matches nothing is retried with each of its
+ * single-edit variants, which tolerates one typo in a word still being typed.
+ * Every token must match; documents are ranked by the summed field-weighted
+ * match scores.
+ * <p>
+ * A stem expands to at most {@value #MAX_EXPANSIONS} dictionary terms, the
+ * shortest first since those score highest. Documents reachable only through
+ * a dropped term are missed, so a page built from a capped expansion reports
+ * its total as a lower bound.
+ */
+public class SearchIndex {
+    private static final float TITLE_WEIGHT = 3f;
+    private static final float NUMBER_WEIGHT = 4f;
+    private static final float NAME_WEIGHT = 3f;
+    private static final float TOPIC_NAME_WEIGHT = 1f;
+    private static final float TEXT_WEIGHT = 1f;
+
+    private static final float PREFIX_SCORE = 0.7f;
+    private static final float FUZZY_SCORE = 0.4f;
+    private static final int MAX_EXPANSIONS = 64;
+    private static final int MIN_FUZZY_LENGTH = 4;
+    private static final int MAX_FUZZY_LENGTH = 24;
+    private static final int NARROW_LIMIT = 2_000;
+
+    private static final Pattern MARKS = Pattern.compile("\\p{M}+");
+    private static final Pattern SEPARATORS = Pattern.compile("[^\\p{Alnum}]+");
+
+    private static final Comparator<Map.Entry<DocKey, Float>> RANKING =
+            Map.Entry.<DocKey, Float>comparingByValue().reversed()
+                    .thenComparing(entry -> entry.getKey().type())
+                    .thenComparing(entry -> entry.getKey().id());
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final TreeMap<String, Map<DocKey, Float>> postings = new TreeMap<>();
+    private final Map<DocKey, Doc> docs = new HashMap<>();
+    private final Map<Long, Set<Long>> questionsByTopic = new HashMap<>();
+    private final Set<Character> alphabet = new HashSet<>();
+
+    public void putQuestion(long id, String title, Long leetcodeNumber, Long topicId) {
+        lock.writeLock().lock();
+        try {
+            removeQuestion(id);
+            Map<String, Float> terms = new HashMap<>();
+            addTerms(terms, title, TITLE_WEIGHT);
+            if (leetcodeNumber != null) {
+                terms.merge(leetcodeNumber.toString(), NUMBER_WEIGHT, Math::max);
+            }
+            Doc topic = topicId != null ? docs.get(new DocKey(SearchHit.Type.TOPIC, topicId)) : null;
+            if (topic != null) {
+                addTerms(terms, topic.title(), TOPIC_NAME_WEIGHT);
+            }
+            add(new Doc(new DocKey(SearchHit.Type.QUESTION, id), title, leetcodeNumber, topicId, terms));
+            if (topicId != null) {
+                questionsByTopic.computeIfAbsent(topicId, key -> new HashSet<>()).add(id);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void removeQuestion(long id) {
+        lock.writeLock().lock();
+        try {
+            Doc removed = remove(new DocKey(SearchHit.Type.QUESTION, id));
+            if (removed != null && removed.topicId() != null) {
+                Set<Long> siblings = questionsByTopic.get(removed.topicId());
+                if (siblings != null && siblings.remove(id) && siblings.isEmpty()) {
+                    questionsByTopic.remove(removed.topicId());
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /** Indexes a topic; a rename also re-terms the topic's questions, which carry its name. */
+    public void putTopic(long id, String name, String description, String notes) {
+        lock.writeLock().lock();
+        try {
+            DocKey key = new DocKey(SearchHit.Type.TOPIC, id);
+            Doc previous = remove(key);
+            Map<String, Float> terms = new HashMap<>();
+            addTerms(terms, name, NAME_WEIGHT);
+            addTerms(terms, description, TEXT_WEIGHT);
+            addTerms(terms, notes, TEXT_WEIGHT);
+            add(new Doc(key, name, null, id, terms));
+            if (previous == null || !Objects.equals(previous.title(), name)) {
+                for (Long questionId : List.copyOf(questionsByTopic.getOrDefault(id, Set.of()))) {
+                    Doc question = docs.get(new DocKey(SearchHit.Type.QUESTION, questionId));
+                    putQuestion(questionId, question.title(), question.leetcodeNumber(), id);
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void removeTopic(long id) {
+        lock.writeLock().lock();
+        try {
+            remove(new DocKey(SearchHit.Type.TOPIC, id));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return docs.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /** One page of the documents matching every token of {@code query}, best first; {@code type} is optional. */
+    public SearchPage search(String query, SearchHit.Type type, int page, int size) {
+        List<String> tokens = List.copyOf(new LinkedHashSet<>(tokenize(query)));
+        if (tokens.isEmpty()) {
+            return new SearchPage(List.of(), 0, true, page, size);
+        }
+        lock.readLock().lock();
+        try {
+            Map<DocKey, Float> scores = null;
+            boolean capped = false;
+            for (String token : tokens) {
+                if (scores == null) {
+                    scores = new HashMap<>();
+                    capped = match(token, scores);
+                    if (type != null) {
+                        scores.keySet().removeIf(key -> key.type() != type);
+                    }
+                } else if (scores.size() <= NARROW_LIMIT && hasTermStartingWith(token)) {
+                    narrow(scores, token);
+                } else {
+                    Map<DocKey, Float> matches = new HashMap<>();
+                    capped |= match(token, matches);
+                    scores.keySet().retainAll(matches.keySet());
+                    scores.replaceAll((key, score) -> score + matches.get(key));
+                }
+                if (scores.isEmpty()) {
+                    break;
+                }
+            }
+
+            int from = (int) Math.min((long) page * size, scores.size());
+            List<SearchHit> items = new ArrayList<>();
+            for (Map.Entry<DocKey, Float> entry : top(scores, (int) Math.min((long) from + size, scores.size()))
+                    .subList(from, (int) Math.min((long) from + size, scores.size()))) {
+                items.add(toHit(docs.get(entry.getKey()), entry.getValue()));
+            }
+            return new SearchPage(items, scores.size(), !capped, page, size);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null || text.isBlank()) {
+            return tokens;
+        }
+        String folded = MARKS.matcher(Normalizer.normalize(text, Normalizer.Form.NFD)).replaceAll("")
+                .toLowerCase(Locale.ROOT);
+        for (String token : SEPARATORS.split(folded)) {
+            // Single letters carry no signal, but a one-digit LeetCode number does
+            if (token.length() > 1 || (token.length() == 1 && Character.isDigit(token.charAt(0)))) {
+                tokens.add(token);
+            }
+        }
+        return tokens;
+    }
+
+    /** The {@code limit} best entries in ranking order, without sorting the rest. */
+    private static List<Map.Entry<DocKey, Float>> top(Map<DocKey, Float> scores, int limit) {
+        PriorityQueue<Map.Entry<DocKey, Float>> worstFirst = new PriorityQueue<>(RANKING.reversed());
+        if (limit == 0) {
+            return new ArrayList<>();
+        }
+        for (Map.Entry<DocKey, Float> entry : scores.entrySet()) {
+            if (worstFirst.size() < limit) {
+                worstFirst.offer(entry);
+            } else if (RANKING.compare(entry, worstFirst.peek()) < 0) {
+                worstFirst.poll();
+                worstFirst.offer(entry);
+            }
+        }
+        List<Map.Entry<DocKey, Float>> best = new ArrayList<>(worstFirst);
+        best.sort(RANKING);
+        return best;
+    }
+
+    private boolean hasTermStartingWith(String token) {
+        String next = postings.ceilingKey(token);
+        return next != null && next.startsWith(token);
+    }
+
+    /** Scores a further token against the few remaining candidates' own terms instead of its postings. */
+    private void narrow(Map<DocKey, Float> scores, String token) {
+        Iterator<Map.Entry<DocKey, Float>> candidates = scores.entrySet().iterator();
+        while (candidates.hasNext()) {
+            Map.Entry<DocKey, Float> candidate = candidates.next();
+            float best = 0;
+            for (Map.Entry<String, Float> term : docs.get(candidate.getKey()).terms().entrySet()) {
+                if (term.getKey().startsWith(token)) {
+                    best = Math.max(best, term.getValue() * (term.getKey().length() == token.length()
+                            ? 1f : PREFIX_SCORE * token.length() / term.getKey().length()));
+                }
+            }
+            if (best == 0) {
+                candidates.remove();
+            } else {
+                candidate.setValue(candidate.getValue() + best);
+            }
+        }
+    }
+
+    /** Scores {@code token} into {@code best}; returns whether an expansion was capped. */
+    private boolean match(String token, Map<DocKey, Float> best) {
+        boolean capped = collect(token, 1f, best);
+        // Longer tokens would generate thousands of variants for little gain
+        if (best.isEmpty() && token.length() >= MIN_FUZZY_LENGTH && token.length() <= MAX_FUZZY_LENGTH) {
+            for (String variant : edits(token)) {
+                capped |= collect(variant, FUZZY_SCORE, best);
+            }
+        }
+        return capped;
+    }
+
+    /**
+     * Scores the {@link #MAX_EXPANSIONS} shortest terms equal to or starting
+     * with {@code stem}, ties in dictionary order; returns whether any were left out.
+     */
+    private boolean collect(String stem, float scale, Map<DocKey, Float> best) {
+        Collection<String> terms = postings.subMap(stem, true, stem + Character.MAX_VALUE, false).keySet();
+        boolean capped = terms.size() > MAX_EXPANSIONS;
+        if (capped) {
+            terms = terms.stream().sorted(Comparator.comparingInt(String::length)).limit(MAX_EXPANSIONS).toList();
+        }
+        for (String term : terms) {
+            float score = scale * (term.length() == stem.length() ? 1f : PREFIX_SCORE * stem.length() / term.length());
+            for (Map.Entry<DocKey, Float> posting : postings.get(term).entrySet()) {
+                best.merge(posting.getKey(), score * posting.getValue(), Math::max);
+            }
+        }
+        return capped;
+    }
+
+    /** Every string one deletion, transposition, substitution or insertion away, over the indexed alphabet. */
+    private Set<String> edits(String token) {
+        Set<String> variants = new LinkedHashSet<>();
+        for (int i = 0; i < token.length(); i++) {
+            variants.add(token.substring(0, i) + token.substring(i + 1));
+            if (i + 1 < token.length()) {
+                variants.add(token.substring(0, i) + token.charAt(i + 1) + token.charAt(i) + token.substring(i + 2));
+            }
+        }
+        for (char c : alphabet) {
+            for (int i = 0; i <= token.length(); i++) {
+                variants.add(token.substring(0, i) + c + token.substring(i));
+                if (i < token.length()) {
+                    variants.add(token.substring(0, i) + c + token.substring(i + 1));
+                }
+            }
+        }
+        variants.remove(token);
+        // Shorter stems would expand to too many unrelated prefixes
+        variants.removeIf(variant -> variant.length() < MIN_FUZZY_LENGTH - 1);
+        return variants;
+    }
+
+    private SearchHit toHit(Doc doc, float score) {
+        double rounded = Math.round(score * 1000) / 1000.0;
+        if (doc.key().type() == SearchHit.Type.TOPIC) {
+            return new SearchHit(SearchHit.Type.TOPIC, doc.key().id(), doc.title(), null, doc.key().id(), doc.title(), rounded);
+        }
+        Doc topic = doc.topicId() != null ? docs.get(new DocKey(SearchHit.Type.TOPIC, doc.topicId())) : null;
+        return new SearchHit(SearchHit.Type.QUESTION, doc.key().id(), doc.title(), doc.leetcodeNumber(), doc.topicId(),
+                topic != null ? topic.title() : null, rounded);
+    }
+
+    private static void addTerms(Map<String, Float> terms, String text, float weight) {
+        for (String token : tokenize(text)) {
+            terms.merge(token, weight, Math::max);
+        }
+    }
+
+    private void add(Doc doc) {
+        docs.put(doc.key(), doc);
+        for (Map.Entry<String, Float> term : doc.terms().entrySet()) {
+            postings.computeIfAbsent(term.getKey(), key -> new HashMap<>()).put(doc.key(), term.getValue());
+            for (int i = 0; i < term.getKey().length(); i++) {
+                alphabet.add(term.getKey().charAt(i));
+            }
+        }
+    }
+
+    private Doc remove(DocKey key) {
+        Doc doc = docs.remove(key);
+        if (doc != null) {
+            for (String term : doc.terms().keySet()) {
+                Map<DocKey, Float> docsWithTerm = postings.get(term);
+                docsWithTerm.remove(key);
+                if (docsWithTerm.isEmpty()) {
+                    postings.remove(term);
+                }
+            }
+        }
+        return doc;
+    }
+
+    private record DocKey(SearchHit.Type type, long id) {}
+
+    private record Doc(DocKey key, String title, Long leetcodeNumber, Long topicId, Map<String, Float> terms) {}
+}
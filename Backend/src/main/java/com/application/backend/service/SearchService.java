@@ -0,0 +1,174 @@
+package com.application.backend.service;
+
+import com.application.backend.cache.CacheRegistry;
+import com.application.backend.dto.SearchHit;
+import com.application.backend.dto.SearchPage;
+import com.application.backend.model.Question;
+import com.application.backend.model.Topic;
+import com.application.backend.repository.QuestionRepository;
+import com.application.backend.repository.TopicRepository;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+/**
+ * Owns the in-process {@link SearchIndex}. It is built at startup and kept
+ * current by applying each committed question and topic write; set-based
+ * writes rebuild it in the background. Changes committed while a rebuild is
+ * loading are replayed onto the new index before it replaces the old one.
+ */
+@Service
+public class SearchService {
+    private static final Logger log = LoggerFactory.getLogger(SearchService.class);
+
+    @Autowired
+    private QuestionRepository questionRepository;
+
+    @Autowired
+    private TopicRepository topicRepository;
+
+    @Value("${search.page.default-size:20}")
+    private int defaultPageSize;
+
+    @Value("${search.page.max-size:100}")
+    private int maxPageSize;
+
+    @Value("${search.query.max-length:200}")
+    private int maxQueryLength;
+
+    @Value("${search.query.max-tokens:8}")
+    private int maxQueryTokens;
+
+    private final ReentrantLock rebuildLock = new ReentrantLock();
+    private final ExecutorService rebuilder = Executors.newSingleThreadExecutor();
+    private final AtomicBoolean rebuildQueued = new AtomicBoolean();
+    private volatile SearchIndex index = new SearchIndex();
+    private List<Consumer<SearchIndex>> replay;
+
+    /**
+     * Searches with at most {@code search.query.max-tokens} distinct tokens
+     * from the first {@code search.query.max-length} characters of the query;
+     * the rest is ignored.
+     */
+    public SearchPage search(String query, SearchHit.Type type, Integer page, Integer size) {
+        int pageSize = size == null ? defaultPageSize : Math.max(1, Math.min(size, maxPageSize));
+        return index.search(bound(query), type, page == null ? 0 : Math.max(0, page), pageSize);
+    }
+
+    private String bound(String query) {
+        if (query == null) {
+            return null;
+        }
+        String head = query.length() > maxQueryLength ? query.substring(0, maxQueryLength) : query;
+        return String.join(" ", new LinkedHashSet<>(SearchIndex.tokenize(head)).stream().limit(maxQueryTokens).toList());
+    }
+
+    public void onQuestionSaved(Question question) {
+        Long id = question.getId();
+        String title = question.getTitle();
+        Long leetcodeNumber = question.getLeetcodeNumber();
+        Long topicId = question.getTopic() != null ? question.getTopic().getId() : null;
+        CacheRegistry.afterCommit(() -> apply(index -> index.putQuestion(id, title, leetcodeNumber, topicId)));
+    }
+
+    public void onQuestionDeleted(Long id) {
+        CacheRegistry.afterCommit(() -> apply(index -> index.removeQuestion(id)));
+    }
+
+    public void onTopicSaved(Topic topic) {
+        Long id = topic.getId();
+        String name = topic.getName();
+        String description = topic.getDescription();
+        String notes = topic.getNotes();
+        CacheRegistry.afterCommit(() -> apply(index -> index.putTopic(id, name, description, notes)));
+    }
+
+    public void onTopicDeleted(Long id) {
+        CacheRegistry.afterCommit(() -> apply(index -> index.removeTopic(id)));
+    }
+
+    /**
+     * Rebuilds on a background thread once the current transaction commits,
+     * for writes that bypassed the per-row hooks. Requests made before a
+     * queued rebuild starts are served by it.
+     */
+    public void rebuildAfterCommit() {
+        CacheRegistry.afterCommit(() -> {
+            if (!rebuildQueued.compareAndSet(false, true)) {
+                return;
+            }
+            try {
+                rebuilder.execute(() -> {
+                    rebuildQueued.set(false);
+                    try {
+                        rebuild();
+                    } catch (RuntimeException e) {
+                        log.warn("Search rebuild failed, keeping the previous index", e);
+                    }
+                });
+            } catch (RejectedExecutionException e) {
+                // Shutting down
+                rebuildQueued.set(false);
+            }
+        });
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        rebuildLock.lock();
+        try {
+            synchronized (this) {
+                replay = new ArrayList<>();
+            }
+            SearchIndex fresh = new SearchIndex();
+            try {
+                // Topics first, so questions pick up their topic's name
+                for (Topic topic : topicRepository.findAll()) {
+                    fresh.putTopic(topic.getId(), topic.getName(), topic.getDescription(), topic.getNotes());
+                }
+                for (QuestionRepository.SearchRow row : questionRepository.findSearchRows()) {
+                    fresh.putQuestion(row.getId(), row.getTitle(), row.getLeetcodeNumber(), row.getTopicId());
+                }
+                synchronized (this) {
+                    replay.forEach(change -> change.accept(fresh));
+                    index = fresh;
+                }
+            } finally {
+                // A failed load must not leave writes queueing for a rebuild that never finishes
+                synchronized (this) {
+                    replay = null;
+                }
+            }
+            log.info("Indexed {} questions and topics for search", fresh.size());
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        rebuilder.shutdownNow();
+    }
+
+    private synchronized void apply(Consumer<SearchIndex> change) {
+        change.accept(index);
+        if (replay != null) {
+            replay.add(change);
+        }
+    }
+}
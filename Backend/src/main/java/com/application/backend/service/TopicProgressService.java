@@ -0,0 +1,113 @@
+package com.application.backend.service;
+
+import com.application.backend.model.Question;
+import com.application.backend.model.TopicProgress;
+import com.application.backend.repository.TopicProgressRepository;
+import com.application.backend.repository.TopicRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Maintains the {@code topic_progress} rollup. Question writes adjust the
+ * affected topics' counters in the same transaction; set-based writes and
+ * the periodic reconciliation rebuild the table from one grouped count.
+ */
+@Service
+public class TopicProgressService {
+    private static final Logger log = LoggerFactory.getLogger(TopicProgressService.class);
+
+    @Autowired
+    private TopicProgressRepository topicProgressRepository;
+
+    @Autowired
+    private TopicRepository topicRepository;
+
+    @Transactional
+    public Optional<TopicProgress> getTopicProgress(Long topicId) {
+        Optional<TopicProgress> progress = topicProgressRepository.findById(topicId);
+        if (progress.isPresent() || !topicRepository.existsById(topicId)) {
+            return progress;
+        }
+        refresh(topicId);
+        return topicProgressRepository.findById(topicId);
+    }
+
+    /**
+     * Moves one question between (topic, status) cells. Topic and status are
+     * null on the side that does not exist, i.e. before a create or after a delete.
+     */
+    @Transactional
+    public void record(Long fromTopicId, Question.Status from, Long toTopicId, Question.Status to) {
+        if (Objects.equals(fromTopicId, toTopicId)) {
+            if (from != to) {
+                apply(toTopicId, 0, from, to, 1);
+            }
+            return;
+        }
+        if (fromTopicId != null) {
+            apply(fromTopicId, -1, from, null, 1);
+        }
+        if (toTopicId != null) {
+            apply(toTopicId, 1, null, to, 1);
+        }
+    }
+
+    /** Moves {@code count} questions of one topic from one status to another. */
+    @Transactional
+    public void recordStatusChange(Long topicId, Question.Status from, Question.Status to, int count) {
+        if (from != to && count > 0) {
+            apply(topicId, 0, from, to, count);
+        }
+    }
+
+    @Transactional
+    public void onTopicCreated(Long topicId) {
+        topicProgressRepository.insertIfAbsent(topicId);
+    }
+
+    @Transactional
+    public void onTopicDeleted(Long topicId) {
+        topicProgressRepository.deleteById(topicId);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${progress.reconcile.interval:PT1H}",
+               initialDelayString = "${progress.reconcile.interval:PT1H}")
+    @Transactional
+    public void rebuild() {
+        topicProgressRepository.deleteAllRows();
+        int topics = topicProgressRepository.insertAllFromQuestions();
+        log.debug("Rebuilt progress rollups for {} topics", topics);
+    }
+
+    private void apply(Long topicId, int total, Question.Status from, Question.Status to, int count) {
+        int updated = topicProgressRepository.applyDelta(topicId, count * total,
+                count * delta(from, to, Question.Status.DONE),
+                count * delta(from, to, Question.Status.IN_PROGRESS),
+                count * delta(from, to, Question.Status.TODO),
+                LocalDateTime.now());
+        if (updated == 0) {
+            // No row for this topic yet; the recount already includes this write
+            refresh(topicId);
+        }
+    }
+
+    private void refresh(Long topicId) {
+        topicProgressRepository.insertIfAbsent(topicId);
+        topicProgressRepository.recount(topicId);
+    }
+
+    private static int delta(Question.Status from, Question.Status to, Question.Status counted) {
+        return (to == counted ? 1 : 0) - (from == counted ? 1 : 0);
+    }
+}
@@ -1,66 +1,96 @@
 package com.application.backend.service;
 
+import com.application.backend.cache.CacheRegistry;
 import com.application.backend.dto.TopicResponse;
 import com.application.backend.model.Topic;
 import com.application.backend.repository.TopicRepository;
-import com.application.backend.repository.QuestionRepository;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Optional;
 
 @Service
 public class TopicService {
+    private static final String TOPICS_CACHE = "topics";
+
     @Autowired
     private TopicRepository topicRepository;
 
     @Autowired
-    private QuestionRepository questionRepository;
+    private CacheRegistry cacheRegistry;
+
+    @Autowired
+    private DataVersionService dataVersionService;
+
+    @Autowired
+    private TopicProgressService topicProgressService;
+
+    @Autowired
+    private SearchService searchService;
 
     public List<Topic> getAllTopics() {
         return topicRepository.findAll();
     }
 
     public List<TopicResponse> getAllTopicsWithCounts() {
-        return topicRepository.findAll().stream().map(t ->
-                new TopicResponse(
-                        t.getId(),
-                        t.getName(),
-                        t.getDescription(),
-                        t.getNotes(),
-                        t.getCreatedAt(),
-                        t.getUpdatedAt(),
-                        questionRepository.countByTopicId(t.getId())
-                )
-        ).toList();
+        return cacheRegistry.<String, List<TopicResponse>>cache(TOPICS_CACHE)
+                .get("all", topicRepository::findAllWithCounts);
+    }
+
+    /** Drops the cached topic cards; their question counts change with question writes too. */
+    public void evictTopicCards() {
+        CacheRegistry.afterCommit(() -> cacheRegistry.cache(TOPICS_CACHE).invalidateAll());
+    }
+
+    private void afterTopicWrite() {
+        evictTopicCards();
+        dataVersionService.evict();
     }
 
     public Optional<Topic> getTopicById(Long id) {
         return topicRepository.findById(id);
     }
 
+    @Transactional
     public Topic createTopic(Topic topic) {
-        return topicRepository.save(topic);
+        Topic saved = topicRepository.save(topic);
+        topicProgressService.onTopicCreated(saved.getId());
+        searchService.onTopicSaved(saved);
+        afterTopicWrite();
+        return saved;
     }
 
+    @Transactional
     public Topic updateTopic(Long id, Topic topicDetails) {
         return topicRepository.findById(id).map(topic -> {
             topic.setName(topicDetails.getName());
             topic.setDescription(topicDetails.getDescription());
             topic.setNotes(topicDetails.getNotes());
-            return topicRepository.save(topic);
+            Topic saved = topicRepository.save(topic);
+            searchService.onTopicSaved(saved);
+            afterTopicWrite();
+            return saved;
         }).orElseThrow(() -> new RuntimeException("Topic not found"));
     }
 
+    @Transactional
     public Topic updateNotes(Long id, String notes) {
         return topicRepository.findById(id).map(topic -> {
             topic.setNotes(notes);
-            return topicRepository.save(topic);
+            Topic saved = topicRepository.save(topic);
+            searchService.onTopicSaved(saved);
+            afterTopicWrite();
+            return saved;
         }).orElseThrow(() -> new RuntimeException("Topic not found"));
     }
 
+    @Transactional
     public void deleteTopic(Long id) {
         topicRepository.deleteById(id);
+        topicProgressService.onTopicDeleted(id);
+        searchService.onTopicDeleted(id);
+        afterTopicWrite();
     }
 }
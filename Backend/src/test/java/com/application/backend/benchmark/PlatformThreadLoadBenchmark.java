@@ -0,0 +1,7 @@
+package com.application.backend.benchmark;
+
+import org.springframework.test.context.TestPropertySource;
+
+@TestPropertySource(properties = "spring.threads.virtual.enabled=false")
+class PlatformThreadLoadBenchmark extends ThreadModeLoadBenchmark {
+}
@@ -0,0 +1,106 @@
+package com.application.backend.benchmark;
+
+import com.application.backend.model.Question;
+import com.application.backend.repository.QuestionRepository;
+import com.application.backend.support.DataSeeder;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.lang.management.ManagementFactory;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Compares the old load-everything status count against the grouped
+ * projection used by ProgressService. Run with {@code gradle benchmark},
+ * optionally passing {@code -Pbenchmark.sizes=10000,100000}.
+ */
+@Tag("benchmark")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE)
+@ActiveProfiles("embedded")
+class ProgressAggregationBenchmark {
+    private static final int ITERATIONS = 5;
+
+    @Autowired
+    private QuestionRepository questionRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void compareStatusCounting() {
+        DataSeeder seeder = new DataSeeder(jdbcTemplate);
+        List<Long> topicIds = seeder.seedTopics(20, 4000);
+
+        System.out.printf("%-10s %-10s %14s %16s%n", "rows", "path", "median ms", "allocated MB");
+        for (int size : sizes()) {
+            seeder.seedQuestions(size - (int) seeder.questionCount(), topicIds);
+
+            Result grouped = measure(this::countGrouped);
+            System.out.printf("%-10d %-10s %14.1f %16.1f%n", size, "grouped", grouped.millis, grouped.megabytes);
+            try {
+                Result legacy = measure(this::countLoadingEntities);
+                System.out.printf("%-10d %-10s %14.1f %16.1f%n", size, "findAll", legacy.millis, legacy.megabytes);
+                assertEquals(legacy.counts, grouped.counts);
+            } catch (OutOfMemoryError e) {
+                System.out.printf("%-10d %-10s %14s %16s%n", size, "findAll", "OOM", "-");
+            }
+        }
+    }
+
+    private Map<Question.Status, Long> countGrouped() {
+        Map<Question.Status, Long> counts = new EnumMap<>(Question.Status.class);
+        for (QuestionRepository.StatusCount row : questionRepository.countGroupedByStatus()) {
+            counts.put(row.getStatus(), row.getCount());
+        }
+        return counts;
+    }
+
+    private Map<Question.Status, Long> countLoadingEntities() {
+        List<Question> allQuestions = questionRepository.findAll();
+        Map<Question.Status, Long> counts = new EnumMap<>(Question.Status.class);
+        for (Question.Status status : Question.Status.values()) {
+            counts.put(status, allQuestions.stream().filter(q -> q.getStatus() == status).count());
+        }
+        return counts;
+    }
+
+    private static Result measure(Supplier<Map<Question.Status, Long>> path) {
+        com.sun.management.ThreadMXBean threads =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().threadId();
+
+        Map<Question.Status, Long> counts = path.get(); // warm-up
+        long[] nanos = new long[ITERATIONS];
+        long allocated = 0;
+        for (int i = 0; i < ITERATIONS; i++) {
+            long bytesBefore = threads.getThreadAllocatedBytes(threadId);
+            long start = System.nanoTime();
+            counts = path.get();
+            nanos[i] = System.nanoTime() - start;
+            allocated += threads.getThreadAllocatedBytes(threadId) - bytesBefore;
+        }
+        Arrays.sort(nanos);
+        return new Result(counts, nanos[ITERATIONS / 2] / 1_000_000.0,
+                allocated / (double) ITERATIONS / (1024 * 1024));
+    }
+
+    private static int[] sizes() {
+        return Arrays.stream(System.getProperty("benchmark.sizes", "10000,100000,1000000").split(","))
+                .mapToInt(size -> Integer.parseInt(size.trim()))
+                .sorted()
+                .toArray();
+    }
+
+    private record Result(Map<Question.Status, Long> counts, double millis, double megabytes) {
+    }
+}
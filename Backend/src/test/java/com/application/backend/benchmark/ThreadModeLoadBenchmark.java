@@ -0,0 +1,122 @@
+package com.application.backend.benchmark;
+
+import com.application.backend.BackendApplication;
+import com.application.backend.support.DataSeeder;
+import com.application.backend.support.DatabaseLatencyConfig;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Drives a mixed load against the running app: 30% keyset page reads that
+ * hit the database and 70% cached progress reads that do not. Every
+ * connection checkout is delayed to stand in for a remote database, so the
+ * pool saturates and the two thread modes can be compared on how well the
+ * cached reads get through. Run with {@code gradle benchmark}.
+ */
+@Tag("benchmark")
+@SpringBootTest(classes = {BackendApplication.class, DatabaseLatencyConfig.class},
+        webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("embedded")
+@DirtiesContext
+abstract class ThreadModeLoadBenchmark {
+    private static final int CLIENTS = 400;
+    private static final int REQUESTS_PER_CLIENT = 20;
+    private static final int QUESTIONS = 5000;
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean virtualThreads;
+
+    @Test
+    void driveMixedLoad() throws Exception {
+        DataSeeder seeder = new DataSeeder(jdbcTemplate);
+        seeder.seedQuestions(QUESTIONS, seeder.seedTopics(20, 200));
+
+        List<Long> dbNanos = Collections.synchronizedList(new ArrayList<>());
+        List<Long> cachedNanos = Collections.synchronizedList(new ArrayList<>());
+        AtomicInteger failures = new AtomicInteger();
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+
+        try (HttpClient http = HttpClient.newHttpClient()) {
+            send(http, "/api/progress/stats");
+            threads.resetPeakThreadCount();
+            long start = System.nanoTime();
+            ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor();
+            for (int c = 0; c < CLIENTS; c++) {
+                int client = c;
+                clients.submit(() -> {
+                    for (int r = 0; r < REQUESTS_PER_CLIENT; r++) {
+                        boolean database = (client + r) % 10 < 3;
+                        String path = database
+                                ? "/api/questions/page?size=20&cursor=" + ((client * 31L + r * 97L) % QUESTIONS)
+                                : "/api/progress/stats";
+                        long began = System.nanoTime();
+                        try {
+                            if (send(http, path) != 200) {
+                                failures.incrementAndGet();
+                            }
+                        } catch (Exception e) {
+                            failures.incrementAndGet();
+                        }
+                        (database ? dbNanos : cachedNanos).add(System.nanoTime() - began);
+                    }
+                });
+            }
+            clients.close();
+            double seconds = (System.nanoTime() - start) / 1e9;
+
+            System.out.printf("%n%s threads: %d requests in %.2fs (%.0f req/s), peak live platform threads %d%n",
+                    virtualThreads ? "virtual" : "platform", CLIENTS * REQUESTS_PER_CLIENT, seconds,
+                    CLIENTS * REQUESTS_PER_CLIENT / seconds, threads.getPeakThreadCount());
+            report("database", dbNanos);
+            report("cached", cachedNanos);
+        }
+        assertEquals(0, failures.get());
+    }
+
+    private int send(HttpClient http, String path) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + path)).GET().build();
+        return http.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+    }
+
+    private static void report(String kind, List<Long> samples) {
+        List<Long> sorted = new ArrayList<>(samples);
+        Collections.sort(sorted);
+        System.out.printf("  %-9s n=%-6d p50 %7.1fms  p95 %7.1fms  p99 %7.1fms%n", kind, sorted.size(),
+                percentile(sorted, 0.50), percentile(sorted, 0.95), percentile(sorted, 0.99));
+    }
+
+    private static double percentile(List<Long> sorted, double p) {
+        if (sorted.isEmpty()) {
+            return 0;
+        }
+        return sorted.get((int) Math.min(sorted.size() - 1, Math.ceil(p * sorted.size()) - 1)) / 1e6;
+    }
+}
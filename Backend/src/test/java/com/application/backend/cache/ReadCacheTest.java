@@ -0,0 +1,116 @@
+package com.application.backend.cache;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class ReadCacheTest {
+    private final TestClock clock = new TestClock();
+    private final AtomicInteger loads = new AtomicInteger();
+
+    @Test
+    void servesHitsUntilTheEntryExpires() {
+        ReadCache<String, Integer> cache = new ReadCache<>("test", 10, Duration.ofSeconds(30), clock);
+        assertEquals(1, cache.get("a", this::load));
+        clock.advance(Duration.ofSeconds(29));
+        assertEquals(1, cache.get("a", this::load));
+        assertEquals(1, cache.hitCount());
+
+        clock.advance(Duration.ofSeconds(1));
+        assertEquals(2, cache.get("a", this::load));
+        assertEquals(2, cache.missCount());
+        assertEquals(1, cache.stats().getExpirations());
+    }
+
+    @Test
+    void evictsTheLeastRecentlyUsedEntryWhenFull() {
+        ReadCache<String, Integer> cache = new ReadCache<>("test", 2, Duration.ofMinutes(5), clock);
+        cache.get("a", this::load);
+        cache.get("b", this::load);
+        // Reading "a" makes "b" the eldest
+        cache.get("a", this::load);
+        cache.get("c", this::load);
+
+        assertEquals(2, cache.size());
+        assertEquals(1, cache.stats().getEvictions());
+        assertEquals(1, cache.get("a", this::load));
+        assertEquals(4, cache.get("b", this::load));
+    }
+
+    @Test
+    void invalidationDuringALoadKeepsTheStaleValueOut() throws Exception {
+        ReadCache<String, Integer> cache = new ReadCache<>("test", 10, Duration.ofMinutes(5), clock);
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch written = new CountDownLatch(1);
+        CompletableFuture<Integer> inFlight = CompletableFuture.supplyAsync(() -> cache.get("a", () -> {
+            loading.countDown();
+            try {
+                written.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return 1;
+        }));
+
+        loading.await();
+        cache.invalidateAll();
+        written.countDown();
+
+        // The caller still gets what it loaded, but the next read loads again
+        assertEquals(1, inFlight.get());
+        assertEquals(0, cache.size());
+        assertEquals(7, cache.get("a", () -> 7));
+        assertEquals(7, cache.get("a", () -> 8));
+    }
+
+    @Test
+    void invalidatesMatchingKeysAndSkipsNullValues() {
+        ReadCache<String, Integer> cache = new ReadCache<>("test", 10, Duration.ofMinutes(5), clock);
+        cache.get("a1", this::load);
+        cache.get("a2", this::load);
+        cache.get("b1", this::load);
+        cache.invalidateIf(key -> key.startsWith("a"));
+        assertEquals(1, cache.size());
+        assertEquals(2, cache.invalidationCount());
+
+        assertNull(cache.get("missing", () -> null));
+        assertEquals(1, cache.size());
+    }
+
+    private Integer load() {
+        return loads.incrementAndGet();
+    }
+
+    private static final class TestClock extends Clock {
+        private Instant now = Instant.parse("2025-01-01T00:00:00Z");
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
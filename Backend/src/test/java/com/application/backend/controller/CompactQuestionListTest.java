@@ -0,0 +1,68 @@
+package com.application.backend.controller;
+
+import com.application.backend.model.Question;
+import com.application.backend.model.Topic;
+import com.application.backend.service.QuestionService;
+import com.application.backend.service.TopicService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import static com.application.backend.support.Fixtures.question;
+import static com.application.backend.support.Fixtures.topic;
+import static org.hamcrest.Matchers.hasSize;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@ActiveProfiles("embedded")
+class CompactQuestionListTest {
+
+    @Autowired
+    private WebApplicationContext context;
+
+    @Autowired
+    private TopicService topicService;
+
+    @Autowired
+    private QuestionService questionService;
+
+    @Test
+    void compactListSideLoadsEachTopicOnce() throws Exception {
+        MockMvc mockMvc = MockMvcBuilders.webAppContextSetup(context).build();
+        Topic topic = topic("compact");
+        topic.setNotes("n".repeat(4000));
+        topic = topicService.createTopic(topic);
+        for (int i = 0; i < 50; i++) {
+            Question question = question(topic, Question.Difficulty.MEDIUM, Question.Status.TODO);
+            question.setLeetcodeNumber((long) i);
+            question.setTitle("Question " + i);
+            questionService.createQuestion(question);
+        }
+        String uri = "/api/topics/" + topic.getId() + "/questions";
+
+        String full = mockMvc.perform(get(uri))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(50)))
+                .andExpect(jsonPath("$[0].topic.notes").exists())
+                .andReturn().getResponse().getContentAsString();
+        String compact = mockMvc.perform(get(uri).param("view", "compact").param("include", "topics"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.questions", hasSize(50)))
+                .andExpect(jsonPath("$.questions[0].topicId").value(topic.getId()))
+                .andExpect(jsonPath("$.topics.length()").value(1))
+                .andExpect(jsonPath("$.topics['" + topic.getId() + "'].notes").exists())
+                .andReturn().getResponse().getContentAsString();
+        mockMvc.perform(get(uri).param("view", "compact"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.topics").doesNotExist());
+
+        assertTrue(full.length() > 10 * compact.length(), full.length() + " vs " + compact.length());
+    }
+}
@@ -0,0 +1,118 @@
+package com.application.backend.controller;
+
+import com.application.backend.cache.CacheRegistry;
+import com.application.backend.cache.SecondLevelCache;
+import com.application.backend.support.DataSeeder;
+import com.application.backend.support.QueryBudget;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import java.util.List;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Pins the read endpoints to a statement budget with cold caches, so a
+ * change that reintroduces per-row queries fails here.
+ */
+@SpringBootTest
+@ActiveProfiles("embedded")
+class ControllerQueryBudgetTest {
+    private static final int TOPICS = 8;
+
+    @Autowired
+    private WebApplicationContext context;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private CacheRegistry cacheRegistry;
+
+    @Autowired
+    private SecondLevelCache secondLevelCache;
+
+    private MockMvc mockMvc;
+    private List<Long> topicIds;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.webAppContextSetup(context).build();
+        DataSeeder seeder = new DataSeeder(jdbcTemplate);
+        if (seeder.topicCount() == 0) {
+            seeder.seedQuestions(400, seeder.seedTopics(TOPICS, 50));
+        }
+        topicIds = jdbcTemplate.queryForList("select id from topics order by id", Long.class);
+        cacheRegistry.invalidateAll();
+        secondLevelCache.evictAll();
+    }
+
+    @Test
+    void topicCards() {
+        assertBudget(3, "/api/topics");
+    }
+
+    @Test
+    void questionPages() {
+        assertBudget(3, "/api/questions/page?size=50");
+        cacheRegistry.invalidateAll();
+        assertBudget(3, "/api/topics/" + topicIds.get(0) + "/questions/page?size=50");
+    }
+
+    @Test
+    void topicProgress() throws Exception {
+        // Topics seeded through JDBC get their rollup row on first read
+        String uri = "/api/topics/" + topicIds.get(0) + "/progress";
+        mockMvc.perform(get(uri)).andExpect(status().isOk());
+        cacheRegistry.invalidateAll();
+        assertBudget(3, uri);
+    }
+
+    @Test
+    void singleQuestion() {
+        Long id = jdbcTemplate.queryForObject("select min(id) from questions", Long.class);
+        assertBudget(3, "/api/questions/" + id);
+    }
+
+    @Test
+    void progressViews() {
+        assertBudget(4, "/api/progress/stats");
+        cacheRegistry.invalidateAll();
+        assertBudget(5, "/api/progress/today");
+    }
+
+    @Test
+    void upcomingReminders() {
+        assertBudget(3, "/api/reminders/upcoming?limit=20");
+        cacheRegistry.invalidateAll();
+        assertBudget(4, "/api/reminders/upcoming?limit=20&view=compact&include=topics");
+    }
+
+    @Test
+    void topicQuestionLists() {
+        String uri = "/api/topics/" + topicIds.get(0) + "/questions";
+        assertBudget(3, uri);
+        cacheRegistry.invalidateAll();
+        assertBudget(3, uri + "?view=compact");
+        cacheRegistry.invalidateAll();
+        assertBudget(4, uri + "?view=compact&include=topics");
+    }
+
+    private void assertBudget(int maxStatements, String uri) {
+        QueryBudget.assertAtMost(maxStatements, () -> {
+            try {
+                return mockMvc.perform(get(uri)).andExpect(status().isOk()).andReturn();
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        });
+    }
+}
@@ -0,0 +1,73 @@
+package com.application.backend.controller;
+
+import com.application.backend.model.Question;
+import com.application.backend.model.Topic;
+import com.application.backend.service.QuestionService;
+import com.application.backend.service.TopicService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import static com.application.backend.support.Fixtures.question;
+import static com.application.backend.support.Fixtures.topic;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("embedded")
+class LiveUpdateStreamTest {
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private TopicService topicService;
+
+    @Autowired
+    private QuestionService questionService;
+
+    @Test
+    void sendsCurrentStateThenPushesCommittedProgress() throws Exception {
+        HttpClient client = HttpClient.newHttpClient();
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/stream")).build();
+        HttpResponse<Stream<String>> response = client.send(request, HttpResponse.BodyHandlers.ofLines());
+        assertEquals(200, response.statusCode());
+
+        List<String> events = new CopyOnWriteArrayList<>();
+        Iterator<String> lines = response.body().iterator();
+        CompletableFuture<Void> pushed = CompletableFuture.runAsync(() -> {
+            int progressEvents = 0;
+            while (progressEvents < 2 && lines.hasNext()) {
+                String line = lines.next();
+                if (line.startsWith("event:")) {
+                    events.add(line.substring("event:".length()));
+                    if (line.equals("event:progress")) {
+                        progressEvents++;
+                    }
+                }
+            }
+        });
+
+        Topic topic = topicService.createTopic(topic("live"));
+        questionService.createQuestion(question(topic, Question.Status.DONE));
+
+        // The second progress event is the pipeline flush of the write above
+        pushed.get(10, TimeUnit.SECONDS);
+        response.body().close();
+        assertEquals(List.of("progress", "today", "upcoming"), events.subList(0, 3));
+        assertTrue(events.subList(3, events.size()).contains("progress"));
+    }
+}
@@ -0,0 +1,82 @@
+package com.application.backend.controller;
+
+import com.application.backend.cache.CacheRegistry;
+import com.application.backend.dto.TopicResponse;
+import com.application.backend.support.DataSeeder;
+import com.application.backend.support.QueryBudget;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE)
+@ActiveProfiles("embedded")
+class TopicControllerQueryCountTest {
+
+    @Autowired
+    private TopicController topicController;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private CacheRegistry cacheRegistry;
+
+    @BeforeEach
+    void clearCaches() {
+        // Rows are seeded through JDBC, which bypasses the service-level invalidation
+        cacheRegistry.invalidateAll();
+    }
+
+    @Test
+    void getAllTopicsIssuesConstantStatementsRegardlessOfTopicCount() {
+        DataSeeder seeder = new DataSeeder(jdbcTemplate);
+        seeder.seedQuestions(50, seeder.seedTopics(2, 100));
+        long fewTopics = statementsFor(() -> topicController.getAllTopics(newRequest()));
+
+        seeder.seedQuestions(500, seeder.seedTopics(40, 100));
+        long manyTopics = statementsFor(() -> topicController.getAllTopics(newRequest()));
+
+        // The topic listing plus the two table-version lookups behind its ETag
+        assertTrue(fewTopics <= 3);
+        assertEquals(fewTopics, manyTopics);
+    }
+
+    @Test
+    void getAllTopicsReportsPerStatusCounts() {
+        DataSeeder seeder = new DataSeeder(jdbcTemplate);
+        seeder.seedQuestions(200, seeder.seedTopics(3, 10));
+
+        List<TopicResponse> topics = topicController.getAllTopics(newRequest()).getBody();
+
+        for (TopicResponse topic : topics) {
+            Long expected = jdbcTemplate.queryForObject(
+                    "select count(*) from questions where topic_id = ?", Long.class, topic.getId());
+            Long done = jdbcTemplate.queryForObject(
+                    "select count(*) from questions where topic_id = ? and status = 'DONE'", Long.class, topic.getId());
+            assertEquals(expected, topic.getQuestionCount());
+            assertEquals(done, topic.getCompletedCount());
+            assertEquals(topic.getQuestionCount(),
+                    topic.getCompletedCount() + topic.getInProgressCount() + topic.getTodoCount());
+        }
+    }
+
+    private static ServletWebRequest newRequest() {
+        return new ServletWebRequest(new MockHttpServletRequest("GET", "/api/topics"), new MockHttpServletResponse());
+    }
+
+    private long statementsFor(Runnable call) {
+        cacheRegistry.invalidateAll();
+        return QueryBudget.measure(call).getStatements();
+    }
+}
@@ -0,0 +1,136 @@
+package com.application.backend.loadtest;
+
+import com.application.backend.BackendApplication;
+import com.application.backend.model.Question;
+import com.application.backend.support.DataSeeder;
+import com.application.backend.support.DatabaseLatencyConfig;
+import com.application.backend.support.LoadDriver;
+import com.application.backend.support.LoadDriver.Call;
+import com.application.backend.support.LoadDriver.Scenario;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Seeds the embedded database and drives dashboard reads and question edits
+ * against the running app, reporting latency percentiles and throughput per
+ * endpoint. Run with {@code gradle loadTest}; see build.gradle for the
+ * -Pload.* volume, concurrency and mix options.
+ */
+@Tag("loadtest")
+@SpringBootTest(classes = {BackendApplication.class, DatabaseLatencyConfig.class},
+        webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("embedded")
+class DashboardLoadTest {
+    private static final Question.Status[] STATUSES = Question.Status.values();
+    private static final Question.Difficulty[] DIFFICULTIES = Question.Difficulty.values();
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private List<Long> topicIds;
+    private long firstQuestionId;
+    private long lastQuestionId;
+
+    @Test
+    void dashboardAndEditTraffic() throws Exception {
+        int topics = Integer.getInteger("load.topics", 50);
+        int questions = Integer.getInteger("load.questions", 20_000);
+        int historyDays = Integer.getInteger("load.history-days", 365);
+        int clients = Integer.getInteger("load.clients", 50);
+        Duration warmup = Duration.ofSeconds(Integer.getInteger("load.warmup", 10));
+        Duration duration = Duration.ofSeconds(Integer.getInteger("load.duration", 30));
+        String mix = System.getProperty("load.mix", "mixed");
+
+        DataSeeder seeder = new DataSeeder(jdbcTemplate);
+        topicIds = seeder.seedTopics(topics, 1_000);
+        seeder.seedQuestions(questions, topicIds);
+        seeder.seedHistory(historyDays, 2);
+        firstQuestionId = jdbcTemplate.queryForObject("select min(id) from questions", Long.class);
+        lastQuestionId = jdbcTemplate.queryForObject("select max(id) from questions", Long.class);
+
+        System.out.printf("%nLoad test: mix=%s clients=%d warmup=%ds duration=%ds topics=%d questions=%d history=%dd%n",
+                mix, clients, warmup.toSeconds(), duration.toSeconds(), topics, questions, historyDays);
+        LoadDriver driver = new LoadDriver("http://localhost:" + port, scenarios(mix));
+        LoadDriver.Report report = driver.run(clients, warmup, duration);
+        report.print(System.out);
+        report.writeCsv(Path.of("build", "reports", "load-test", mix + ".csv"));
+
+        assertEquals(0, report.errors());
+    }
+
+    private List<Scenario> scenarios(String mix) {
+        int edits = switch (mix) {
+            case "dashboard" -> 0;
+            case "edit" -> 10;
+            case "mixed" -> 1;
+            default -> throw new IllegalArgumentException("Unknown load.mix '" + mix + "'");
+        };
+        String month = "startDate=" + LocalDate.now().minusDays(29) + "&endDate=" + LocalDate.now();
+
+        List<Scenario> scenarios = new ArrayList<>();
+        add(scenarios, "GET /api/topics", 15, random -> Call.get("/api/topics"));
+        add(scenarios, "GET /api/progress/stats", 15, random -> Call.get("/api/progress/stats"));
+        add(scenarios, "GET /api/progress/today", 10, random -> Call.get("/api/progress/today"));
+        add(scenarios, "GET /api/progress/history", 8, random -> Call.get("/api/progress/history?" + month));
+        add(scenarios, "GET /api/progress/completions", 8,
+                random -> Call.get("/api/progress/completions?" + month));
+        add(scenarios, "GET /api/reminders/upcoming", 8, random -> Call.get("/api/reminders/upcoming"));
+        add(scenarios, "GET /api/questions/page", 12,
+                random -> Call.get("/api/questions/page?size=50&cursor=" + randomQuestion(random)));
+        add(scenarios, "GET /api/topics/{id}/questions/page", 8,
+                random -> Call.get("/api/topics/" + randomTopic(random) + "/questions/page?size=50"));
+        add(scenarios, "GET /api/questions/{id}", 6,
+                random -> Call.get("/api/questions/" + randomQuestion(random)));
+        add(scenarios, "PATCH /api/questions/{id}/status", 6 * edits,
+                random -> new Call("PATCH", "/api/questions/" + randomQuestion(random) + "/status",
+                        "{\"status\":\"" + STATUSES[random.nextInt(STATUSES.length)] + "\"}"));
+        add(scenarios, "PATCH /api/questions/{id}/important", 2 * edits,
+                random -> new Call("PATCH", "/api/questions/" + randomQuestion(random) + "/important", null));
+        add(scenarios, "PUT /api/questions/{id}", edits,
+                random -> new Call("PUT", "/api/questions/" + randomQuestion(random), questionBody(random)));
+        add(scenarios, "POST /api/questions", edits,
+                random -> new Call("POST", "/api/questions", questionBody(random)));
+        return scenarios;
+    }
+
+    private static void add(List<Scenario> scenarios, String name, int weight, Function<Random, Call> request) {
+        if (weight > 0) {
+            scenarios.add(new Scenario(name, weight, request));
+        }
+    }
+
+    private String questionBody(Random random) {
+        int number = 1 + random.nextInt(3_000);
+        return "{\"topicId\":" + randomTopic(random) + ",\"leetcodeNumber\":" + number
+                + ",\"title\":\"Load question " + number + "\""
+                + ",\"difficulty\":\"" + DIFFICULTIES[random.nextInt(DIFFICULTIES.length)] + "\""
+                + ",\"status\":\"" + STATUSES[random.nextInt(STATUSES.length)] + "\""
+                + ",\"isImportant\":" + random.nextBoolean() + "}";
+    }
+
+    private long randomTopic(Random random) {
+        return topicIds.get(random.nextInt(topicIds.size()));
+    }
+
+    private long randomQuestion(Random random) {
+        return firstQuestionId + (long) (random.nextDouble() * (lastQuestionId - firstQuestionId + 1));
+    }
+}
@@ -0,0 +1,104 @@
+package com.application.backend.service;
+
+import com.application.backend.dto.BulkStatusRequest;
+import com.application.backend.dto.BulkStatusResult;
+import com.application.backend.model.Progress;
+import com.application.backend.model.Question;
+import com.application.backend.model.Topic;
+import com.application.backend.model.TopicProgress;
+import com.application.backend.support.QueryBudget;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.application.backend.support.Fixtures.question;
+import static com.application.backend.support.Fixtures.topic;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE)
+@ActiveProfiles("embedded")
+class BulkStatusUpdateTest {
+
+    @Autowired
+    private QuestionService questionService;
+
+    @Autowired
+    private TopicService topicService;
+
+    @Autowired
+    private TopicProgressService topicProgressService;
+
+    @Autowired
+    private ProgressService progressService;
+
+    @Autowired
+    private ProgressPipeline progressPipeline;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void marksATopicDoneWithConstantStatements() {
+        Topic topic = topicService.createTopic(topic("bulk"));
+        for (int i = 0; i < 60; i++) {
+            questionService.createQuestion(question(topic, Question.Status.values()[i % 3]));
+        }
+        BulkStatusRequest request = new BulkStatusRequest();
+        request.setTopicId(topic.getId());
+        request.setStatus(Question.Status.DONE);
+
+        int completedBefore = completedQuestions();
+        // Lock, log, update, one rollup and one fact update per previous status,
+        // two review schedule writes and the read that refreshes the review queue after commit
+        BulkStatusResult result = QueryBudget.assertAtMost(10, () -> questionService.updateStatuses(request));
+
+        assertEquals(40, result.getUpdated());
+        assertEquals(20, result.getPrevious().get(Question.Status.TODO));
+        assertEquals(60L, count("select count(*) from questions where topic_id = ? and status = 'DONE'", topic.getId()));
+        assertEquals(40L, count("select count(*) from question_status_events e join questions q on q.id = e.question_id " +
+                "where q.topic_id = ? and e.from_status is not null", topic.getId()));
+        TopicProgress rollup = topicProgressService.getTopicProgress(topic.getId()).orElseThrow();
+        assertEquals(60, rollup.getCompletedQuestions());
+        assertEquals(0, rollup.getTodoQuestions() + rollup.getInProgressQuestions());
+        assertEquals(completedBefore + 40, completedQuestions());
+    }
+
+    @Test
+    void resetsOnlyListedQuestionsInTheGivenStatus() {
+        Topic topic = topicService.createTopic(topic("bulk"));
+        List<Long> ids = new ArrayList<>();
+        for (Question.Status status : List.of(Question.Status.DONE, Question.Status.DONE, Question.Status.IN_PROGRESS)) {
+            ids.add(questionService.createQuestion(question(topic, status)).getId());
+        }
+        BulkStatusRequest request = new BulkStatusRequest();
+        request.setIds(ids);
+        request.setFromStatus(Question.Status.DONE);
+        request.setStatus(Question.Status.TODO);
+
+        int completedBefore = completedQuestions();
+        BulkStatusResult result = questionService.updateStatuses(request);
+
+        assertEquals(2, result.getUpdated());
+        TopicProgress rollup = topicProgressService.getTopicProgress(topic.getId()).orElseThrow();
+        assertEquals(2, rollup.getTodoQuestions());
+        assertEquals(1, rollup.getInProgressQuestions());
+        assertEquals(0, rollup.getCompletedQuestions());
+        assertEquals(completedBefore - 2, completedQuestions());
+    }
+
+    private int completedQuestions() {
+        // Other tests seed rows through JDBC, so only the change in the counters is comparable
+        progressPipeline.flush();
+        Progress stats = progressService.getStats();
+        return stats.getCompletedQuestions();
+    }
+
+    private long count(String sql, Object... args) {
+        return jdbcTemplate.queryForObject(sql, Long.class, args);
+    }
+}
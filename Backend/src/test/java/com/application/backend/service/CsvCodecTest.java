@@ -0,0 +1,37 @@
+package com.application.backend.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class CsvCodecTest {
+
+    @Test
+    void roundTripsQuotesCommasAndNewlines() throws IOException {
+        StringWriter out = new StringWriter();
+        CsvCodec.writeRecord(out, "plain", "a,b", "say \"hi\"", "two\nlines", "crlf\r\nline", null, 42L);
+        CsvCodec.writeRecord(out, "second");
+        assertEquals("plain,\"a,b\",\"say \"\"hi\"\"\",\"two\nlines\",\"crlf\r\nline\",,42\nsecond\n", out.toString());
+
+        BufferedReader reader = new BufferedReader(new StringReader(out.toString()));
+        assertEquals(List.of("plain", "a,b", "say \"hi\"", "two\nlines", "crlf\r\nline", "", "42"),
+                CsvCodec.readRecord(reader));
+        assertEquals(List.of("second"), CsvCodec.readRecord(reader));
+        assertNull(CsvCodec.readRecord(reader));
+    }
+
+    @Test
+    void readsCrlfRecordsAndAQuoteClosingTheInput() throws IOException {
+        BufferedReader reader = new BufferedReader(new StringReader("a,b\r\n\"x\",\"y\""));
+        assertEquals(List.of("a", "b"), CsvCodec.readRecord(reader));
+        assertEquals(List.of("x", "y"), CsvCodec.readRecord(reader));
+        assertNull(CsvCodec.readRecord(reader));
+    }
+}
@@ -0,0 +1,43 @@
+package com.application.backend.service;
+
+import com.application.backend.model.Question;
+import com.application.backend.model.Topic;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import static com.application.backend.support.Fixtures.question;
+import static com.application.backend.support.Fixtures.topic;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE)
+@ActiveProfiles("embedded")
+class DataVersionServiceTest {
+
+    @Autowired
+    private DataVersionService dataVersionService;
+
+    @Autowired
+    private QuestionService questionService;
+
+    @Autowired
+    private TopicService topicService;
+
+    @Test
+    void deletesAdvanceTheCatalogVersion() throws InterruptedException {
+        Topic topic = topicService.createTopic(topic("versions"));
+        Question older = questionService.createQuestion(question(topic, Question.Status.TODO));
+        questionService.createQuestion(question(topic, Question.Status.TODO));
+        DataVersion before = dataVersionService.catalog();
+
+        // The deleted row is not the newest, so max(updatedAt) stays where it was
+        Thread.sleep(5);
+        questionService.deleteQuestion(older.getId());
+        DataVersion after = dataVersionService.catalog();
+
+        assertNotEquals(before.getEtag(), after.getEtag());
+        assertTrue(after.getLastModified() > before.getLastModified());
+    }
+}
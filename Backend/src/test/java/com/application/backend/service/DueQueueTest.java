@@ -0,0 +1,76 @@
+package com.application.backend.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class DueQueueTest {
+    private static final LocalDateTime NOON = LocalDateTime.of(2025, 1, 1, 12, 0);
+
+    @Test
+    void ordersByDueTimeThenKey() {
+        DueQueue<Long> queue = new DueQueue<>();
+        queue.schedule(3L, NOON.plusHours(1));
+        queue.schedule(2L, NOON);
+        queue.schedule(1L, NOON);
+
+        assertEquals(List.of(1L, 2L, 3L), queue.peek(10));
+        assertEquals(List.of(1L, 2L), queue.peek(2));
+        assertEquals(3, queue.size());
+    }
+
+    @Test
+    void reschedulingMovesAKeyAndCancellingDropsIt() {
+        DueQueue<Long> queue = new DueQueue<>();
+        queue.schedule(1L, NOON);
+        queue.schedule(2L, NOON.plusMinutes(5));
+        queue.schedule(1L, NOON.plusMinutes(10));
+
+        assertEquals(List.of(2L, 1L), queue.peek(10));
+        assertEquals(NOON.plusMinutes(10), queue.dueTime(1L));
+        assertEquals(2, queue.size());
+
+        queue.cancel(2L);
+        queue.cancel(99L);
+        assertEquals(List.of(1L), queue.peek(10));
+        assertNull(queue.dueTime(2L));
+    }
+
+    @Test
+    void pollsOnlyWhatIsDueIncludingTheBoundary() {
+        DueQueue<Long> queue = new DueQueue<>();
+        queue.schedule(1L, NOON.minusMinutes(1));
+        queue.schedule(2L, NOON);
+        queue.schedule(3L, NOON.plusSeconds(1));
+
+        assertEquals(List.of(1L, 2L), queue.pollDue(NOON));
+        assertTrue(queue.pollDue(NOON).isEmpty());
+        assertEquals(List.of(3L), queue.peek(10));
+        assertEquals(1, queue.size());
+    }
+
+    @Test
+    void peeksAroundABoundTimeWithoutRemoving() {
+        DueQueue<Long> queue = new DueQueue<>();
+        queue.schedule(1L, NOON.minusMinutes(1));
+        queue.schedule(2L, NOON);
+        queue.schedule(3L, NOON);
+        queue.schedule(4L, NOON.plusMinutes(1));
+
+        assertEquals(List.of(1L, 2L, 3L), queue.peekUntil(NOON, 10));
+        assertEquals(List.of(4L), queue.peekAfter(NOON, 10));
+        assertEquals(NOON.plusMinutes(1), queue.nextDueAfter(NOON));
+        assertEquals(NOON, queue.nextDueAfter(NOON.minusMinutes(1)));
+        assertNull(queue.nextDueAfter(NOON.plusMinutes(1)));
+        assertEquals(4, queue.size());
+
+        queue.clear();
+        assertEquals(0, queue.size());
+        assertTrue(queue.peek(10).isEmpty());
+    }
+}
@@ -0,0 +1,50 @@
+package com.application.backend.service;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE,
+        properties = "live.stream.max-clients=2")
+@ActiveProfiles("embedded")
+class LiveUpdateServiceTest {
+
+    @Autowired
+    private LiveUpdateService liveUpdateService;
+
+    @Test
+    void concurrentSubscribersNeverExceedTheLimit() throws Exception {
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<SseEmitter>> attempts = new ArrayList<>();
+        try (ExecutorService connects = Executors.newFixedThreadPool(16)) {
+            for (int i = 0; i < 64; i++) {
+                attempts.add(connects.submit(() -> {
+                    start.await();
+                    return liveUpdateService.subscribe(Map.of());
+                }));
+            }
+            start.countDown();
+        }
+
+        int opened = 0;
+        for (Future<SseEmitter> attempt : attempts) {
+            if (attempt.get() != null) {
+                opened++;
+            }
+        }
+        assertEquals(2, opened);
+        assertEquals(2, liveUpdateService.getSubscriberCount());
+    }
+}
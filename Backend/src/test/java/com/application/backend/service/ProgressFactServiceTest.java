@@ -0,0 +1,110 @@
+package com.application.backend.service;
+
+import com.application.backend.dto.ProgressFactBucket;
+import com.application.backend.model.ProgressFact;
+import com.application.backend.model.Question;
+import com.application.backend.model.Topic;
+import com.application.backend.repository.ProgressFactCellRepository;
+import com.application.backend.repository.ProgressFactRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static com.application.backend.support.Fixtures.question;
+import static com.application.backend.support.Fixtures.topic;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE)
+@ActiveProfiles("embedded")
+class ProgressFactServiceTest {
+
+    @Autowired
+    private ProgressFactService progressFactService;
+
+    @Autowired
+    private ProgressFactRepository progressFactRepository;
+
+    @Autowired
+    private ProgressFactCellRepository progressFactCellRepository;
+
+    @Autowired
+    private TopicService topicService;
+
+    @Autowired
+    private QuestionService questionService;
+
+    @Test
+    void writesKeepTodaysCellsInStep() {
+        Topic topic = topicService.createTopic(topic("facts"));
+
+        Question easy = questionService.createQuestion(question(topic, Question.Difficulty.EASY, Question.Status.TODO));
+        questionService.createQuestion(question(topic, Question.Difficulty.HARD, Question.Status.IN_PROGRESS));
+        // Difficulty and status change together, so the question leaves one cell for another
+        questionService.updateQuestion(easy.getId(), question(topic, Question.Difficulty.HARD, Question.Status.DONE));
+
+        List<ProgressFactBucket> today = facts(topic.getId());
+        assertEquals(1, today.size());
+        assertBucket(today.get(0), 2, 1, 1, 0);
+        assertEquals(Question.Difficulty.HARD, today.get(0).getDifficulty());
+
+        // A reconciling snapshot finds nothing to correct for these cells
+        progressFactService.snapshot();
+        assertBucket(facts(topic.getId()).get(0), 2, 1, 1, 0);
+    }
+
+    @Test
+    @Transactional
+    void rollsUpCarryingLastRowForward() {
+        long topicId = 900_000 + System.nanoTime() % 100_000;
+        LocalDate monday = LocalDate.now().minusWeeks(4).with(java.time.DayOfWeek.MONDAY);
+        progressFactRepository.insertIfAbsent(monday.minusDays(10), topicId, "EASY", 3, 0, 0, 3);
+        progressFactRepository.insertIfAbsent(monday.plusDays(2), topicId, "EASY", 4, 2, 0, 2);
+        progressFactRepository.insertIfAbsent(monday.plusDays(8), topicId, "MEDIUM", 1, 1, 0, 0);
+        progressFactCellRepository.insertIfAbsent(topicId, "EASY");
+        progressFactCellRepository.insertIfAbsent(topicId, "MEDIUM");
+
+        List<ProgressFactBucket> weeks = progressFactService.getFacts(monday, monday.plusDays(13),
+                ProgressFactService.Granularity.WEEK, ProgressFactService.Dimension.TOPIC, topicId, null);
+        assertEquals(2, weeks.size());
+        assertEquals(monday.plusDays(6), weeks.get(0).getPeriodEnd());
+        assertBucket(weeks.get(0), 4, 2, 0, 2);
+        assertBucket(weeks.get(1), 5, 3, 0, 2);
+
+        List<ProgressFactBucket> days = progressFactService.getFacts(monday, monday.plusDays(1),
+                ProgressFactService.Granularity.DAY, ProgressFactService.Dimension.DIFFICULTY, topicId, null);
+        assertEquals(2, days.size());
+        assertBucket(days.get(1), 3, 0, 0, 3);
+    }
+
+    @Test
+    @Transactional
+    void startupRegistersCellsOfEarlierRows() {
+        long topicId = 900_000 + System.nanoTime() % 100_000;
+        LocalDate day = LocalDate.now().minusDays(30);
+        progressFactRepository.insertIfAbsent(day, topicId, "HARD", 2, 1, 1, 0);
+        assertTrue(progressFactRepository.findLatestBefore(day.plusDays(1), topicId, null).isEmpty());
+
+        progressFactService.start();
+        List<ProgressFact> latest = progressFactRepository.findLatestBefore(day.plusDays(1), topicId, null);
+        assertEquals(1, latest.size());
+        assertEquals(2, latest.get(0).getTotalQuestions());
+    }
+
+    private List<ProgressFactBucket> facts(Long topicId) {
+        return progressFactService.getFacts(LocalDate.now(), LocalDate.now(), ProgressFactService.Granularity.DAY,
+                ProgressFactService.Dimension.TOPIC_AND_DIFFICULTY, topicId, null);
+    }
+
+    private static void assertBucket(ProgressFactBucket bucket, int total, int completed, int inProgress, int todo) {
+        assertEquals(total, bucket.getTotalQuestions());
+        assertEquals(completed, bucket.getCompletedQuestions());
+        assertEquals(inProgress, bucket.getInProgressQuestions());
+        assertEquals(todo, bucket.getTodoQuestions());
+    }
+}
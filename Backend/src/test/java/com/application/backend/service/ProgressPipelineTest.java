@@ -0,0 +1,83 @@
+package com.application.backend.service;
+
+import com.application.backend.cache.CacheRegistry;
+import com.application.backend.cache.SecondLevelCache;
+import com.application.backend.model.Progress;
+import com.application.backend.model.Question;
+import com.application.backend.model.Topic;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+
+import static com.application.backend.support.Fixtures.question;
+import static com.application.backend.support.Fixtures.topic;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+// A long window keeps recorded deltas pending until the test flushes them
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE,
+        properties = "progress.pipeline.debounce=PT1M")
+@ActiveProfiles("embedded")
+class ProgressPipelineTest {
+
+    @Autowired
+    private ProgressPipeline progressPipeline;
+
+    @Autowired
+    private ProgressService progressService;
+
+    @Autowired
+    private QuestionService questionService;
+
+    @Autowired
+    private TopicService topicService;
+
+    @Autowired
+    private CacheRegistry cacheRegistry;
+
+    @Autowired
+    private SecondLevelCache secondLevelCache;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void reconcileReplacesAPendingDelta() {
+        progressPipeline.flush();
+        Topic topic = topicService.createTopic(topic("pipeline"));
+        questionService.createQuestion(question(topic, Question.Status.DONE));
+        questionService.createQuestion(question(topic, Question.Status.TODO));
+
+        // Reconcile before the window closes, then let the window close
+        progressPipeline.reconcile();
+        progressPipeline.flush();
+
+        Progress stats = progressService.getStats();
+        assertEquals(count(null), stats.getTotalQuestions());
+        assertEquals(count(Question.Status.DONE), stats.getCompletedQuestions());
+        assertEquals(count(Question.Status.IN_PROGRESS), stats.getInProgressQuestions());
+        assertEquals(count(Question.Status.TODO), stats.getTodoQuestions());
+    }
+
+    @Test
+    void firstReadCreatesTheCountersOutsideATransaction() {
+        jdbcTemplate.update("delete from progress");
+        secondLevelCache.evictAll();
+        cacheRegistry.invalidateAll();
+
+        Progress stats = progressService.getStats();
+        assertEquals(count(null), stats.getTotalQuestions());
+        assertEquals(1, jdbcTemplate.queryForObject(
+                "select count(*) from progress_history where date = ?", Integer.class, LocalDate.now()));
+    }
+
+    private int count(Question.Status status) {
+        if (status == null) {
+            return jdbcTemplate.queryForObject("select count(*) from questions", Integer.class);
+        }
+        return jdbcTemplate.queryForObject("select count(*) from questions where status = ?", Integer.class, status.name());
+    }
+}
@@ -0,0 +1,110 @@
+package com.application.backend.service;
+
+import com.application.backend.cache.CacheRegistry;
+import com.application.backend.model.Question;
+import com.application.backend.model.QuestionStatusEvent;
+import com.application.backend.model.Topic;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.util.List;
+
+import static com.application.backend.support.Fixtures.question;
+import static com.application.backend.support.Fixtures.topic;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE)
+@ActiveProfiles("embedded")
+class QuestionEventServiceTest {
+
+    @Autowired
+    private QuestionService questionService;
+
+    @Autowired
+    private QuestionEventService questionEventService;
+
+    @Autowired
+    private TopicService topicService;
+
+    @Autowired
+    private ProgressService progressService;
+
+    @Autowired
+    private CacheRegistry cacheRegistry;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void editsWithoutStatusChangeAppendNothing() {
+        Topic topic = topicService.createTopic(topic("events"));
+        Question question = questionService.createQuestion(question(topic, Question.Status.TODO));
+        questionService.updateQuestion(question.getId(), question(topic, Question.Status.DONE));
+
+        Question edit = question(topic, Question.Status.DONE);
+        edit.setIsImportant(true);
+        questionService.updateQuestion(question.getId(), edit);
+
+        List<QuestionStatusEvent> events = questionEventService.getStatusEvents(question.getId());
+        assertEquals(2, events.size());
+        assertNull(events.get(0).getFromStatus());
+        assertEquals(Question.Status.TODO, events.get(1).getFromStatus());
+        assertEquals(Question.Status.DONE, events.get(1).getToStatus());
+    }
+
+    @Test
+    void completionsStayOnTheDayTheyHappened() {
+        Topic topic = topicService.createTopic(topic("events"));
+        LocalDate completedOn = LocalDate.now().minusDays(400 + System.nanoTime() % 300);
+        Long id = insertDone(topic, completedOn);
+
+        // A later edit bumps updatedAt but must not move the completion
+        Question edit = question(topic, Question.Status.DONE);
+        edit.setIsImportant(true);
+        questionService.updateQuestion(id, edit);
+        cacheRegistry.invalidateAll();
+
+        assertEquals(1, progressService.getDailyCompletions(completedOn, completedOn).get(0).getCompleted());
+        assertEquals(1, questionEventService.getStatusEvents(id).size());
+    }
+
+    @Test
+    void completionsCountFinishedQuestionsOnTheirLatestCompletion() {
+        Topic topic = topicService.createTopic(topic("events"));
+        LocalDate completedOn = LocalDate.now().minusDays(800 + System.nanoTime() % 300);
+        LocalDate today = LocalDate.now();
+        Long id = insertDone(topic, completedOn);
+        assertEquals(1, completed(completedOn));
+        long finishedToday = completed(today);
+
+        // Reopening takes the completion away, and finishing again counts once, on the later day
+        questionService.updateQuestion(id, question(topic, Question.Status.TODO));
+        assertEquals(0, completed(completedOn));
+        questionService.updateQuestion(id, question(topic, Question.Status.DONE));
+        assertEquals(0, completed(completedOn));
+        assertEquals(finishedToday + 1, completed(today));
+
+        questionService.deleteQuestion(id);
+        assertEquals(finishedToday, completed(today));
+    }
+
+    private Long insertDone(Topic topic, LocalDate completedOn) {
+        jdbcTemplate.update("insert into questions (topic_id, leetcode_number, title, difficulty, status, " +
+                        "is_important, created_at, updated_at) values (?, 1, 'Two Sum', 'EASY', 'DONE', false, ?, ?)",
+                topic.getId(), Timestamp.valueOf(completedOn.minusDays(3).atStartOfDay()),
+                Timestamp.valueOf(completedOn.atTime(9, 0)));
+        Long id = jdbcTemplate.queryForObject("select max(id) from questions", Long.class);
+        questionEventService.backfill();
+        return id;
+    }
+
+    private long completed(LocalDate day) {
+        return progressService.getDailyCompletions(day, day).get(0).getCompleted();
+    }
+}
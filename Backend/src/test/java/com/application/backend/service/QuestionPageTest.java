@@ -0,0 +1,124 @@
+package com.application.backend.service;
+
+import com.application.backend.dto.QuestionPage;
+import com.application.backend.dto.QuestionSummary;
+import com.application.backend.jpa.QueryStats;
+import com.application.backend.model.Question;
+import com.application.backend.model.Topic;
+import com.application.backend.support.QueryBudget;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.application.backend.support.Fixtures.question;
+import static com.application.backend.support.Fixtures.topic;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE)
+@ActiveProfiles("embedded")
+class QuestionPageTest {
+
+    @Autowired
+    private QuestionService questionService;
+
+    @Autowired
+    private TopicService topicService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void walksEveryPageOfATopicInIdOrder() {
+        Topic topic = topicService.createTopic(topic("paging"));
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < 7; i++) {
+            ids.add(questionService.createQuestion(question(topic, Question.Status.TODO)).getId());
+        }
+
+        List<Long> walked = new ArrayList<>();
+        List<Integer> sizes = new ArrayList<>();
+        Long cursor = null;
+        do {
+            QuestionPage page = questionService.getQuestionPage(topic.getId(), cursor, 3, null, null, null);
+            page.getItems().forEach(item -> walked.add(item.getId()));
+            sizes.add(page.getItems().size());
+            cursor = page.getNextCursor();
+        } while (cursor != null);
+        assertEquals(ids, walked);
+        assertEquals(List.of(3, 3, 1), sizes);
+
+        // A page that ends exactly on the last row has no next cursor either
+        QuestionPage last = questionService.getQuestionPage(topic.getId(), ids.get(3), 3, null, null, null);
+        assertEquals(ids.subList(4, 7), ids(last));
+        assertNull(last.getNextCursor());
+
+        // Without a topic the cursor alone positions the page
+        assertEquals(ids.subList(1, 4), ids(questionService.getQuestionPage(null, ids.get(0), 3, null, null, null)));
+    }
+
+    @Test
+    void appliesEachFilter() {
+        Topic topic = topicService.createTopic(topic("paging"));
+        Question todo = question(topic, Question.Difficulty.EASY, Question.Status.TODO);
+        Question done = question(topic, Question.Difficulty.HARD, Question.Status.DONE);
+        done.setIsImportant(true);
+        Question unflagged = question(topic, Question.Difficulty.MEDIUM, Question.Status.IN_PROGRESS);
+        Long todoId = questionService.createQuestion(todo).getId();
+        Long doneId = questionService.createQuestion(done).getId();
+        Long unflaggedId = questionService.createQuestion(unflagged).getId();
+        jdbcTemplate.update("update questions set is_important = null where id = ?", unflaggedId);
+        Long topicId = topic.getId();
+
+        assertEquals(List.of(doneId), ids(questionService.getQuestionPage(
+                topicId, null, 10, Question.Status.DONE, null, null)));
+        assertEquals(List.of(unflaggedId), ids(questionService.getQuestionPage(
+                topicId, null, 10, null, Question.Difficulty.MEDIUM, null)));
+        assertEquals(List.of(doneId), ids(questionService.getQuestionPage(
+                topicId, null, 10, null, null, true)));
+        // A missing flag counts as not important
+        assertEquals(List.of(todoId, unflaggedId), ids(questionService.getQuestionPage(
+                topicId, null, 10, null, null, false)));
+        assertEquals(List.of(), ids(questionService.getQuestionPage(
+                topicId, todoId, 10, Question.Status.TODO, Question.Difficulty.EASY, false)));
+
+        // Absent filters are left out of the statement instead of being matched as wildcards
+        QueryStats stats = QueryBudget.measure(() -> questionService.getQuestionPage(topicId, null, 10, null, null, null));
+        assertFalse(stats.describe(10).contains("is null"), stats.describe(10));
+    }
+
+    @Test
+    void clampsThePageSize() {
+        Topic topic = topicService.createTopic(topic("paging"));
+        for (int i = 0; i < 3; i++) {
+            questionService.createQuestion(question(topic, Question.Status.TODO));
+        }
+        assertEquals(1, questionService.getQuestionPage(topic.getId(), null, 0, null, null, null).getItems().size());
+        assertEquals(1, questionService.getQuestionPage(topic.getId(), null, -4, null, null, null).getItems().size());
+        QuestionPage all = questionService.getQuestionPage(topic.getId(), null, Integer.MAX_VALUE, null, null, null);
+        assertEquals(3, all.getItems().size());
+        assertNull(all.getNextCursor());
+    }
+
+    @Test
+    void sideLoadsEachTopicOnce() {
+        Topic topic = topicService.createTopic(topic("paging"));
+        questionService.createQuestion(question(topic, Question.Status.TODO));
+        questionService.createQuestion(question(topic, Question.Status.DONE));
+
+        QuestionPage page = questionService.getQuestionPage(topic.getId(), null, 10, null, null, null);
+        assertNull(page.getTopics());
+        assertEquals(List.of(topic.getId()), page.topicIds());
+        assertEquals(List.of(topic.getId()), List.copyOf(questionService.withTopics(page).getTopics().keySet()));
+    }
+
+    private static List<Long> ids(QuestionPage page) {
+        return page.getItems().stream().map(QuestionSummary::getId).toList();
+    }
+}
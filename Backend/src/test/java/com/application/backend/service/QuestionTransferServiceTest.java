@@ -0,0 +1,162 @@
+package com.application.backend.service;
+
+import com.application.backend.dto.BulkImportResult;
+import com.application.backend.model.Topic;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.application.backend.support.Fixtures.topic;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+// A batch of two puts the batch boundaries inside the imported rows
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE,
+        properties = "questions.import.batch-size=2")
+@ActiveProfiles("embedded")
+class QuestionTransferServiceTest {
+    private static final String MULTILINE_TITLE = "Add\nTwo \"Numbers\"";
+
+    @Autowired
+    private QuestionTransferService questionTransferService;
+
+    @Autowired
+    private TopicService topicService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    void importsCsvAcrossBatchesAndReportsRejectedRows() throws IOException {
+        Topic topic = topicService.createTopic(topic("transfer"));
+        String name = topic.getName();
+        String csv = "topic,leetcodeNumber,title,difficulty,status\r\n"
+                + name + ",1,\"Two Sum, revisited\",EASY,DONE\r\n"
+                + name + ",2,\"Add\nTwo \"\"Numbers\"\"\",MEDIUM,\r\n"
+                + "no-such-topic,3,Missing,EASY,\r\n"
+                + name + ",abc,Bad number,EASY,\r\n"
+                + name + ",5,Five,HARD,TODO\r\n"
+                + "\r\n"
+                + name + ",6,Six,EASY,IN_PROGRESS\r\n"
+                + name + ",7,Seven,EASY,";
+
+        BulkImportResult result = questionTransferService.importCsv(stream(csv));
+        assertEquals(7, result.getReceived());
+        assertEquals(5, result.getImported());
+        assertEquals(2, result.getSkipped());
+        assertEquals(List.of("row 3: unknown topic", "row 4: invalid leetcodeNumber 'abc'"), result.getErrors());
+
+        assertEquals(List.of("Two Sum, revisited", MULTILINE_TITLE, "Five", "Six", "Seven"), titles(topic));
+        assertEquals(List.of("DONE", "TODO", "TODO", "IN_PROGRESS", "TODO"), jdbcTemplate.queryForList(
+                "select status from questions where topic_id = ? order by leetcode_number", String.class, topic.getId()));
+    }
+
+    @Test
+    void rejectsJsonElementsThatAreNotObjectsAndReadsOn() throws IOException {
+        Topic topic = topicService.createTopic(topic("transfer"));
+        long id = topic.getId();
+        String json = "[{\"topicId\":" + id + ",\"leetcodeNumber\":10,\"title\":\"First\",\"difficulty\":\"EASY\"},"
+                + " 5, [1, [2]], \"text\","
+                + " {\"topicId\":-1,\"leetcodeNumber\":11,\"title\":\"Orphan\",\"difficulty\":\"EASY\"},"
+                + " {\"topicId\":" + id + ",\"leetcodeNumber\":12,\"title\":\"Bad\",\"difficulty\":\"NOPE\"},"
+                + " {\"topicId\":" + id + ",\"leetcodeNumber\":13,\"title\":\"Last\",\"difficulty\":\"HARD\"}]";
+
+        BulkImportResult result = questionTransferService.importJson(stream(json));
+        assertEquals(7, result.getReceived());
+        assertEquals(2, result.getImported());
+        assertEquals(5, result.getSkipped());
+        assertEquals(List.of("row 2: expected an object", "row 3: expected an object",
+                "row 4: expected an object", "row 5: unknown topic"), result.getErrors().subList(0, 4));
+        assertEquals(List.of("First", "Last"), titles(topic));
+
+        // A truncated array fails the whole request rather than importing what came before
+        assertThrows(IOException.class, () -> questionTransferService.importJson(
+                stream("[{\"topicId\":" + id + ",\"leetcodeNumber\":14,\"title\":\"Cut\",\"difficulty\":\"EASY\"}")));
+        assertEquals(List.of("First", "Last"), titles(topic));
+    }
+
+    @Test
+    void exportsEveryFormatInAShapeTheImportReads() throws IOException {
+        Topic topic = topicService.createTopic(topic("transfer"));
+        String csv = "topicId,leetcodeNumber,title,difficulty,status,isImportant\n"
+                + topic.getId() + ",2,\"" + MULTILINE_TITLE.replace("\"", "\"\"") + "\",MEDIUM,DONE,true\n"
+                + topic.getId() + ",3,\"Longest, Substring\",MEDIUM,TODO,false\n";
+        assertEquals(2, questionTransferService.importCsv(stream(csv)).getImported());
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        questionTransferService.exportCsv(out);
+        BufferedReader reader = new BufferedReader(new StringReader(out.toString(StandardCharsets.UTF_8)));
+        assertEquals(List.of(QuestionTransferService.CSV_COLUMNS), CsvCodec.readRecord(reader));
+        List<List<String>> rows = new ArrayList<>();
+        List<String> record;
+        while ((record = CsvCodec.readRecord(reader)) != null) {
+            if (record.get(1).equals(topic.getId().toString())) {
+                rows.add(record);
+            }
+        }
+        assertEquals(2, rows.size());
+        assertEquals(List.of(topic.getName(), "2", MULTILINE_TITLE, "", "MEDIUM", "DONE", "true"),
+                rows.get(0).subList(2, 9));
+        assertEquals("Longest, Substring", rows.get(1).get(4));
+
+        // The exported rows read back as an import without losing a field
+        Topic copy = topicService.createTopic(topic("transfer"));
+        StringWriter exported = new StringWriter();
+        CsvCodec.writeRecord(exported, (Object[]) QuestionTransferService.CSV_COLUMNS);
+        for (List<String> row : rows) {
+            row.set(1, copy.getId().toString());
+            CsvCodec.writeRecord(exported, row.toArray());
+        }
+        assertEquals(2, questionTransferService.importCsv(stream(exported.toString())).getImported());
+        assertEquals(titles(topic), titles(copy));
+
+        out.reset();
+        questionTransferService.exportJson(out, false);
+        List<JsonNode> array = new ArrayList<>();
+        objectMapper.readTree(out.toByteArray()).forEach(node -> {
+            if (node.get("topicId").asLong() == topic.getId()) {
+                array.add(node);
+            }
+        });
+        assertEquals(List.of(MULTILINE_TITLE, "Longest, Substring"), array.stream().map(node -> node.get("title").asText()).toList());
+        assertEquals(2L, array.get(0).get("leetcodeNumber").asLong());
+        assertEquals(true, array.get(0).get("isImportant").asBoolean());
+
+        out.reset();
+        questionTransferService.exportJson(out, true);
+        List<JsonNode> lines = new ArrayList<>();
+        for (String line : out.toString(StandardCharsets.UTF_8).split("\n")) {
+            JsonNode node = objectMapper.readTree(line);
+            if (node.get("topicId").asLong() == topic.getId()) {
+                lines.add(node);
+            }
+        }
+        assertEquals(array, lines);
+    }
+
+    private List<String> titles(Topic topic) {
+        return jdbcTemplate.queryForList(
+                "select title from questions where topic_id = ? order by leetcode_number", String.class, topic.getId());
+    }
+
+    private static ByteArrayInputStream stream(String body) {
+        return new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8));
+    }
+}
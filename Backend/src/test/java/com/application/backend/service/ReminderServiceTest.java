@@ -0,0 +1,104 @@
+package com.application.backend.service;
+
+import com.application.backend.model.Question;
+import com.application.backend.model.Topic;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static com.application.backend.support.Fixtures.question;
+import static com.application.backend.support.Fixtures.topic;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// The poller is slowed down so only the test fires reminders
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE,
+        properties = "reminders.poll-interval=PT1H")
+@ActiveProfiles("embedded")
+class ReminderServiceTest {
+
+    @Autowired
+    private ReminderService reminderService;
+
+    @Autowired
+    private QuestionService questionService;
+
+    @Autowired
+    private TopicService topicService;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private RecordingNotifier notifier;
+
+    @Test
+    void firesAReminderOnceItFallsDue() throws InterruptedException {
+        LocalDateTime reminder = LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS).plusSeconds(2);
+        Question question = questionService.createQuestion(reminding(reminder));
+        assertEquals(reminder, reminderService.getNextReminderTime());
+
+        reminderService.fireDueReminders();
+        assertTrue(notifier.notified.isEmpty());
+
+        Thread.sleep(Duration.between(LocalDateTime.now(), reminder).toMillis() + 50);
+        reminderService.fireDueReminders();
+        assertEquals(List.of(question.getId()), notifier.notified);
+
+        // A fired reminder leaves the queue
+        reminderService.fireDueReminders();
+        assertEquals(1, notifier.notified.size());
+    }
+
+    @Test
+    void rolledBackWritesLeaveTheQueueAlone() {
+        LocalDateTime reminder = LocalDateTime.now().plusMinutes(1);
+        transactionTemplate.executeWithoutResult(status -> {
+            questionService.createQuestion(reminding(reminder));
+            status.setRollbackOnly();
+        });
+        assertNotEquals(reminder, reminderService.getNextReminderTime());
+    }
+
+    @Test
+    void clampsTheUpcomingLimit() {
+        questionService.createQuestion(reminding(LocalDateTime.now().plusDays(1)));
+        assertEquals(1, reminderService.getUpcomingReminders(0).size());
+        assertEquals(1, reminderService.getUpcomingReminderList(-5, false).getQuestions().size());
+    }
+
+    private Question reminding(LocalDateTime reminder) {
+        Topic topic = topicService.createTopic(topic("reminders"));
+        Question question = question(topic, Question.Status.TODO);
+        question.setReminderDateTime(reminder);
+        return question;
+    }
+
+    @TestConfiguration
+    static class NotifierConfig {
+        @Bean
+        RecordingNotifier recordingNotifier() {
+            return new RecordingNotifier();
+        }
+    }
+
+    static class RecordingNotifier implements ReminderNotifier {
+        final List<Long> notified = new CopyOnWriteArrayList<>();
+
+        @Override
+        public void notify(Question question) {
+            notified.add(question.getId());
+        }
+    }
+}
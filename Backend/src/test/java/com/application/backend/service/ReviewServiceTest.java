@@ -0,0 +1,109 @@
+package com.application.backend.service;
+
+import com.application.backend.dto.ReviewItem;
+import com.application.backend.model.Question;
+import com.application.backend.model.ReviewSchedule;
+import com.application.backend.support.Fixtures;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest
+@ActiveProfiles("embedded")
+class ReviewServiceTest {
+
+    @Autowired
+    private ReviewService reviewService;
+
+    @Autowired
+    private QuestionService questionService;
+
+    @Autowired
+    private TopicService topicService;
+
+    @Test
+    void intervalsFollowSm2() {
+        LocalDateTime now = LocalDateTime.of(2030, 1, 1, 9, 0);
+        ReviewSchedule schedule = new ReviewSchedule(1L, ReviewService.INITIAL_EASE);
+        int[] expected = {1, 6, 16, 45};
+        for (int interval : expected) {
+            ReviewService.applyReview(schedule, 5, now);
+            assertEquals(interval, schedule.getIntervalDays());
+        }
+        assertEquals(now.plusDays(45), schedule.getDueAt());
+
+        ReviewService.applyReview(schedule, 1, now);
+        assertEquals(0, schedule.getRepetitions());
+        assertEquals(1, schedule.getIntervalDays());
+        assertTrue(schedule.getEaseFactor() >= ReviewService.MIN_EASE);
+    }
+
+    @Test
+    void completingSchedulesAReviewAndReopeningSuspendsIt() {
+        Question question = questionService.createQuestion(question(Question.Status.IN_PROGRESS));
+        assertFalse(queued(question.getId()));
+
+        question.setStatus(Question.Status.DONE);
+        questionService.updateQuestion(question.getId(), question);
+        ReviewItem item = item(question.getId());
+        assertEquals(1, item.getIntervalDays());
+        assertTrue(item.getDueAt().isAfter(LocalDateTime.now().plusHours(23)));
+        assertFalse(reviewService.getDueToday(Integer.MAX_VALUE).stream()
+                .anyMatch(due -> due.getQuestionId().equals(question.getId())));
+
+        ReviewSchedule reviewed = reviewService.recordReview(question.getId(), 4).orElseThrow();
+        assertEquals(6, reviewed.getIntervalDays());
+        assertEquals(reviewed.getDueAt().truncatedTo(ChronoUnit.SECONDS),
+                item(question.getId()).getDueAt().truncatedTo(ChronoUnit.SECONDS));
+
+        question.setStatus(Question.Status.TODO);
+        questionService.updateQuestion(question.getId(), question);
+        assertFalse(queued(question.getId()));
+
+        // A reopened question cannot be reviewed back onto the schedule
+        assertTrue(reviewService.recordReview(question.getId(), 5).isEmpty());
+        assertFalse(queued(question.getId()));
+    }
+
+    @Test
+    void failedRecallIsDueAgainTomorrowAndDeletedQuestionsLeaveTheQueue() {
+        Question question = questionService.createQuestion(question(Question.Status.DONE));
+        ReviewSchedule reviewed = reviewService.recordReview(question.getId(), 0).orElseThrow();
+        assertEquals(1, reviewed.getIntervalDays());
+        assertTrue(queued(question.getId()));
+
+        questionService.deleteQuestion(question.getId());
+        assertFalse(queued(question.getId()));
+    }
+
+    @Test
+    void clampsTheLimit() {
+        questionService.createQuestion(question(Question.Status.DONE));
+        assertEquals(1, reviewService.getNextDue(0).size());
+        assertEquals(1, reviewService.getNextDue(-5).size());
+        assertTrue(reviewService.getNextDue(Integer.MAX_VALUE).size() <= 500);
+    }
+
+    private boolean queued(Long questionId) {
+        return reviewService.getNextDue(Integer.MAX_VALUE).stream()
+                .anyMatch(item -> item.getQuestionId().equals(questionId));
+    }
+
+    private ReviewItem item(Long questionId) {
+        List<ReviewItem> items = reviewService.getNextDue(Integer.MAX_VALUE);
+        return items.stream().filter(item -> item.getQuestionId().equals(questionId)).findFirst().orElseThrow();
+    }
+
+    private Question question(Question.Status status) {
+        return Fixtures.question(topicService.createTopic(Fixtures.topic("review")), status);
+    }
+}
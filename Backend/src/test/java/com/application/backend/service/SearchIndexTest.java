@@ -0,0 +1,107 @@
+package com.application.backend.service;
+
+import com.application.backend.dto.SearchHit;
+import com.application.backend.dto.SearchPage;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SearchIndexTest {
+    private SearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new SearchIndex();
+        index.putTopic(1, "Dynamic Programming", "Tabulation and memoization", "Start from the recurrence");
+        index.putTopic(2, "Graphs", null, "Dijkstra needs non-negative weights");
+        index.putQuestion(10, "Climbing Stairs", 70L, 1L);
+        index.putQuestion(11, "Coin Change", 322L, 1L);
+        index.putQuestion(12, "Network Delay Time", 743L, 2L);
+        index.putQuestion(13, "Course Schedule", 207L, 2L);
+    }
+
+    @Test
+    void matchesTitlePrefixesAndRanksExactFirst() {
+        assertEquals(List.of(11L), ids(index.search("coin", null, 0, 10)));
+        assertEquals(List.of(10L), ids(index.search("climb", null, 0, 10)));
+        // "co" prefixes both titles; every token must match, so "ch" narrows to Coin Change
+        assertEquals(List.of(11L), ids(index.search("co ch", null, 0, 10)));
+    }
+
+    @Test
+    void matchesLeetCodeNumberPrefixes() {
+        assertEquals(List.of(13L), ids(index.search("207", null, 0, 10)));
+        assertEquals(List.of(11L), ids(index.search("32", SearchHit.Type.QUESTION, 0, 10)));
+    }
+
+    @Test
+    void toleratesOneTypoWhileTyping() {
+        assertEquals(List.of(12L), ids(index.search("netwrk", null, 0, 10)));
+        assertEquals(List.of(12L), ids(index.search("netwro", null, 0, 10)));
+        assertEquals(List.of(2L), ids(index.search("dijsktra", null, 0, 10)));
+        assertTrue(index.search("zzzzzz", null, 0, 10).getItems().isEmpty());
+    }
+
+    @Test
+    void searchesTopicNotesAndQuestionsByTopicName() {
+        SearchPage notes = index.search("recurrence", null, 0, 10);
+        assertEquals(List.of(1L), ids(notes));
+        assertEquals(SearchHit.Type.TOPIC, notes.getItems().get(0).getType());
+
+        // The topic's own document ranks above the questions that inherit its name
+        List<Long> graphs = ids(index.search("graphs", null, 0, 10));
+        assertEquals(2L, graphs.get(0));
+        assertTrue(graphs.containsAll(List.of(12L, 13L)));
+    }
+
+    @Test
+    void renamingATopicReindexesItsQuestions() {
+        index.putTopic(2, "Shortest Paths", null, null);
+        assertTrue(ids(index.search("graphs", SearchHit.Type.QUESTION, 0, 10)).isEmpty());
+        assertEquals(List.of(12L, 13L), ids(index.search("shortest", SearchHit.Type.QUESTION, 0, 10)));
+        assertEquals("Shortest Paths", index.search("743", null, 0, 10).getItems().get(0).getTopicName());
+    }
+
+    @Test
+    void removesDocumentsAndPaginates() {
+        index.removeQuestion(11);
+        assertTrue(index.search("coin", null, 0, 10).getItems().isEmpty());
+
+        SearchPage first = index.search("dynamic", null, 0, 1);
+        SearchPage second = index.search("dynamic", null, 1, 1);
+        assertEquals(2, first.getTotal());
+        assertEquals(1, first.getItems().size());
+        assertEquals(1, second.getItems().size());
+        assertTrue(index.search("dynamic", null, 5, 1).getItems().isEmpty());
+    }
+
+    @Test
+    void capsPrefixExpansionAtTheClosestTerms() {
+        // 80 longer titles sort before "arrz" and would have used up a lexicographic cap
+        for (int i = 0; i < 80; i++) {
+            index.putQuestion(100 + i, "Arrpad" + i, null, null);
+        }
+        index.putQuestion(99, "Arrz", null, null);
+
+        SearchPage page = index.search("arr", null, 0, 1);
+        assertEquals(List.of(99L), ids(page));
+        assertFalse(page.isTotalExact());
+        assertTrue(index.search("arrz", null, 0, 1).isTotalExact());
+    }
+
+    @Test
+    void skipsTypoExpansionForLongTokens() {
+        index.putQuestion(20, "Abcdefghijklmnopqrstuvwxyz", null, null);
+        assertEquals(List.of(20L), ids(index.search("abcdefghijklmnopqrstuvwxyz", null, 0, 10)));
+        assertTrue(index.search("abcdefghijklmnopqrstuvwxzy", null, 0, 10).getItems().isEmpty());
+    }
+
+    private static List<Long> ids(SearchPage page) {
+        return page.getItems().stream().map(SearchHit::getId).toList();
+    }
+}
@@ -0,0 +1,56 @@
+package com.application.backend.service;
+
+import com.application.backend.dto.SearchHit;
+import com.application.backend.model.Question;
+import com.application.backend.model.Topic;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+
+import static com.application.backend.support.Fixtures.question;
+import static com.application.backend.support.Fixtures.topic;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE)
+@ActiveProfiles("embedded")
+class SearchServiceTest {
+
+    @Autowired
+    private SearchService searchService;
+
+    @Autowired
+    private QuestionService questionService;
+
+    @Autowired
+    private TopicService topicService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void rebuildsInTheBackgroundAfterAWriteThatBypassedTheHooks() throws InterruptedException {
+        Topic topic = topicService.createTopic(topic("search"));
+        Question question = questionService.createQuestion(question(topic, Question.Status.TODO));
+        String word = "kestrel" + System.nanoTime() % 1_000_000_000;
+        jdbcTemplate.update("update questions set title = ? where id = ?", word, question.getId());
+        assertTrue(ids(word).isEmpty());
+
+        searchService.rebuildAfterCommit();
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (ids(word).isEmpty() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+        }
+        assertEquals(List.of(question.getId()), ids(word));
+    }
+
+    private List<Long> ids(String query) {
+        return searchService.search(query, SearchHit.Type.QUESTION, 0, 10).getItems().stream()
+                .map(SearchHit::getId)
+                .toList();
+    }
+}
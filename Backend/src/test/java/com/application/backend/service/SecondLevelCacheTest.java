@@ -0,0 +1,72 @@
+package com.application.backend.service;
+
+import com.application.backend.cache.SecondLevelCache;
+import com.application.backend.model.Question;
+import com.application.backend.model.Topic;
+import com.application.backend.support.QueryBudget;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import static com.application.backend.support.Fixtures.question;
+import static com.application.backend.support.Fixtures.topic;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest
+@ActiveProfiles("embedded")
+class SecondLevelCacheTest {
+
+    @Autowired
+    private TopicService topicService;
+
+    @Autowired
+    private QuestionService questionService;
+
+    @Autowired
+    private TopicProgressService topicProgressService;
+
+    @Autowired
+    private SecondLevelCache secondLevelCache;
+
+    @BeforeEach
+    void clear() {
+        secondLevelCache.evictAll();
+    }
+
+    @Test
+    void topicLookupsAreServedFromTheCacheUntilTheTopicChanges() {
+        Topic topic = topicService.createTopic(topic("cached"));
+        topicService.getTopicById(topic.getId());
+        assertEquals(0, QueryBudget.measure(() -> topicService.getTopicById(topic.getId())).getStatements());
+
+        topicService.updateNotes(topic.getId(), "monotonic stack");
+        assertEquals("monotonic stack", topicService.getTopicById(topic.getId()).orElseThrow().getNotes());
+
+        topicService.deleteTopic(topic.getId());
+        assertTrue(topicService.getTopicById(topic.getId()).isEmpty());
+    }
+
+    @Test
+    void nativeWritesToOtherTablesKeepCachedTopics() {
+        Topic topic = topicService.createTopic(topic("cached"));
+        topicService.getTopicById(topic.getId());
+
+        // Inserts rollup and fact rows with native statements
+        questionService.createQuestion(question(topic, Question.Status.TODO));
+        topicProgressService.rebuild();
+
+        assertEquals(0, QueryBudget.measure(() -> topicService.getTopicById(topic.getId())).getStatements());
+    }
+
+    @Test
+    void topicListIsServedFromTheQueryCacheUntilATopicIsAdded() {
+        topicService.getAllTopics();
+        assertEquals(0, QueryBudget.measure(topicService::getAllTopics).getStatements());
+
+        Topic topic = topicService.createTopic(topic("cached"));
+        assertTrue(topicService.getAllTopics().stream().anyMatch(t -> t.getId().equals(topic.getId())));
+    }
+}
@@ -0,0 +1,89 @@
+package com.application.backend.service;
+
+import com.application.backend.model.Question;
+import com.application.backend.model.Topic;
+import com.application.backend.model.TopicProgress;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import static com.application.backend.support.Fixtures.question;
+import static com.application.backend.support.Fixtures.topic;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE)
+@ActiveProfiles("embedded")
+class TopicProgressServiceTest {
+
+    @Autowired
+    private TopicService topicService;
+
+    @Autowired
+    private QuestionService questionService;
+
+    @Autowired
+    private TopicProgressService topicProgressService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void rollupFollowsCreateUpdateReassignAndDelete() {
+        Topic arrays = topicService.createTopic(topic("arrays"));
+        Topic graphs = topicService.createTopic(topic("graphs"));
+
+        Question first = questionService.createQuestion(question(arrays, Question.Status.TODO));
+        Question second = questionService.createQuestion(question(arrays, Question.Status.IN_PROGRESS));
+        questionService.createQuestion(question(graphs, Question.Status.DONE));
+        assertMatchesQuestions(arrays, graphs);
+
+        questionService.updateQuestion(first.getId(), question(arrays, Question.Status.DONE));
+        assertMatchesQuestions(arrays, graphs);
+
+        // Reassignment with a status change moves the question across both cells
+        questionService.updateQuestion(second.getId(), question(graphs, Question.Status.TODO));
+        assertMatchesQuestions(arrays, graphs);
+
+        questionService.deleteQuestion(first.getId());
+        assertMatchesQuestions(arrays, graphs);
+        assertEquals(0, topicProgressService.getTopicProgress(arrays.getId()).orElseThrow().getTotalQuestions());
+    }
+
+    @Test
+    void rebuildAgreesWithIncrementalCounters() {
+        Topic topic = topicService.createTopic(topic("rebuild"));
+        for (Question.Status status : Question.Status.values()) {
+            questionService.createQuestion(question(topic, status));
+        }
+        TopicProgress incremental = topicProgressService.getTopicProgress(topic.getId()).orElseThrow();
+
+        topicProgressService.rebuild();
+        TopicProgress rebuilt = topicProgressService.getTopicProgress(topic.getId()).orElseThrow();
+
+        assertEquals(incremental.getTotalQuestions(), rebuilt.getTotalQuestions());
+        assertEquals(incremental.getCompletedQuestions(), rebuilt.getCompletedQuestions());
+        assertEquals(incremental.getInProgressQuestions(), rebuilt.getInProgressQuestions());
+        assertEquals(incremental.getTodoQuestions(), rebuilt.getTodoQuestions());
+    }
+
+    private void assertMatchesQuestions(Topic... topics) {
+        for (Topic topic : topics) {
+            TopicProgress progress = topicProgressService.getTopicProgress(topic.getId()).orElseThrow();
+            assertEquals(count(topic, null), progress.getTotalQuestions().longValue());
+            assertEquals(count(topic, "DONE"), progress.getCompletedQuestions().longValue());
+            assertEquals(count(topic, "IN_PROGRESS"), progress.getInProgressQuestions().longValue());
+            assertEquals(count(topic, "TODO"), progress.getTodoQuestions().longValue());
+        }
+    }
+
+    private long count(Topic topic, String status) {
+        if (status == null) {
+            return jdbcTemplate.queryForObject(
+                    "select count(*) from questions where topic_id = ?", Long.class, topic.getId());
+        }
+        return jdbcTemplate.queryForObject(
+                "select count(*) from questions where topic_id = ? and status = ?", Long.class, topic.getId(), status);
+    }
+}
@@ -0,0 +1,110 @@
+package com.application.backend.support;
+
+import com.application.backend.model.Question;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Bulk-loads topics and questions straight through JDBC so large datasets
+ * can be prepared without going through the entity layer being measured.
+ */
+public class DataSeeder {
+    private static final int BATCH_SIZE = 5_000;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Random random = new Random(42);
+
+    public DataSeeder(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public List<Long> seedTopics(int count, int notesLength) {
+        String notes = "n".repeat(notesLength);
+        LocalDateTime now = LocalDateTime.now();
+        long offset = topicCount();
+        for (int i = 0; i < count; i++) {
+            jdbcTemplate.update(
+                    "insert into topics (name, description, notes, created_at, updated_at) values (?, ?, ?, ?, ?)",
+                    "Topic " + (offset + i), "Seeded topic", notes, Timestamp.valueOf(now), Timestamp.valueOf(now));
+        }
+        return jdbcTemplate.queryForList("select id from topics order by id", Long.class);
+    }
+
+    public void seedQuestions(int count, List<Long> topicIds) {
+        Question.Status[] statuses = Question.Status.values();
+        Question.Difficulty[] difficulties = Question.Difficulty.values();
+        LocalDateTime start = LocalDateTime.now().minusDays(90);
+        long offset = questionCount();
+
+        List<Object[]> batch = new ArrayList<>(BATCH_SIZE);
+        for (int i = 0; i < count; i++) {
+            long number = offset + i + 1;
+            Timestamp updatedAt = Timestamp.valueOf(start.plusMinutes(random.nextInt(90 * 24 * 60)));
+            Timestamp reminder = random.nextInt(10) == 0
+                    ? Timestamp.valueOf(LocalDateTime.now().plusHours(random.nextInt(24 * 30) - 24 * 7))
+                    : null;
+            batch.add(new Object[] {
+                    topicIds.get(random.nextInt(topicIds.size())),
+                    number,
+                    "Seeded question " + number,
+                    "https://leetcode.com/problems/seeded-" + number,
+                    difficulties[random.nextInt(difficulties.length)].name(),
+                    statuses[random.nextInt(statuses.length)].name(),
+                    random.nextInt(5) == 0,
+                    reminder,
+                    updatedAt,
+                    updatedAt
+            });
+            if (batch.size() == BATCH_SIZE) {
+                insertQuestions(batch);
+                batch.clear();
+            }
+        }
+        if (!batch.isEmpty()) {
+            insertQuestions(batch);
+        }
+    }
+
+    /**
+     * Writes a snapshot for every {@code step}-th day of the last {@code days}
+     * days, leaving the gaps a quiet day would leave.
+     */
+    public void seedHistory(int days, int step) {
+        LocalDate today = LocalDate.now();
+        List<Object[]> batch = new ArrayList<>();
+        int total = 0;
+        for (int i = days - 1; i > 0; i -= step) {
+            total += random.nextInt(20);
+            int completed = total / 2;
+            int inProgress = total / 4;
+            batch.add(new Object[] {
+                    java.sql.Date.valueOf(today.minusDays(i)), total, completed, inProgress, total - completed - inProgress
+            });
+        }
+        jdbcTemplate.batchUpdate(
+                "insert into progress_history (date, total_questions, completed_questions, in_progress_questions, " +
+                "todo_questions) values (?, ?, ?, ?, ?) on conflict do nothing",
+                batch);
+    }
+
+    public long questionCount() {
+        return jdbcTemplate.queryForObject("select count(*) from questions", Long.class);
+    }
+
+    public long topicCount() {
+        return jdbcTemplate.queryForObject("select count(*) from topics", Long.class);
+    }
+
+    private void insertQuestions(List<Object[]> batch) {
+        jdbcTemplate.batchUpdate(
+                "insert into questions (topic_id, leetcode_number, title, link, difficulty, status, " +
+                "is_important, reminder_date_time, created_at, updated_at) values (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)",
+                batch);
+    }
+}
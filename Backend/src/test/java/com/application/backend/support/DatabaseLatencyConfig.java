@@ -0,0 +1,43 @@
+package com.application.backend.support;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * Stands in for a remote database by holding every checked-out connection
+ * for {@code benchmark.db-latency-ms} (default 20) before handing it over.
+ */
+@TestConfiguration
+public class DatabaseLatencyConfig {
+
+    @Bean
+    static BeanPostProcessor databaseLatency() {
+        long latencyMillis = Long.getLong("benchmark.db-latency-ms", 20);
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!(bean instanceof DataSource dataSource) || latencyMillis <= 0) {
+                    return bean;
+                }
+                return new DelegatingDataSource(dataSource) {
+                    @Override
+                    public Connection getConnection() throws SQLException {
+                        Connection connection = super.getConnection();
+                        try {
+                            Thread.sleep(latencyMillis);
+                        } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                        }
+                        return connection;
+                    }
+                };
+            }
+        };
+    }
+}
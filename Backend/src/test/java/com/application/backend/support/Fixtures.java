@@ -0,0 +1,33 @@
+package com.application.backend.support;
+
+import com.application.backend.model.Question;
+import com.application.backend.model.Topic;
+
+/**
+ * Unsaved entities for tests that write through the services. Topic names
+ * get a unique suffix because tests share one database.
+ */
+public final class Fixtures {
+
+    private Fixtures() {}
+
+    public static Topic topic(String prefix) {
+        Topic topic = new Topic();
+        topic.setName(prefix + "-" + System.nanoTime());
+        return topic;
+    }
+
+    public static Question question(Topic topic, Question.Status status) {
+        return question(topic, Question.Difficulty.EASY, status);
+    }
+
+    public static Question question(Topic topic, Question.Difficulty difficulty, Question.Status status) {
+        Question question = new Question();
+        question.setTopic(topic);
+        question.setLeetcodeNumber(1L);
+        question.setTitle("Two Sum");
+        question.setDifficulty(difficulty);
+        question.setStatus(status);
+        return question;
+    }
+}
@@ -0,0 +1,205 @@
+package com.application.backend.support;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Function;
+
+/**
+ * Closed-loop HTTP load generator. Each client repeatedly picks a weighted
+ * scenario, sends it and records the latency under the scenario's name.
+ * GET scenarios revalidate with the ETag the client last saw, as a browser
+ * dashboard would.
+ */
+public class LoadDriver {
+
+    /** A named request; {@code request} builds the path plus optional body from the client's random. */
+    public record Scenario(String name, int weight, Function<Random, Call> request) {
+    }
+
+    public record Call(String method, String path, String jsonBody) {
+        public static Call get(String path) {
+            return new Call("GET", path, null);
+        }
+    }
+
+    private final String baseUri;
+    private final List<Scenario> scenarios;
+    private final int totalWeight;
+
+    public LoadDriver(String baseUri, List<Scenario> scenarios) {
+        this.baseUri = baseUri;
+        this.scenarios = scenarios;
+        this.totalWeight = scenarios.stream().mapToInt(Scenario::weight).sum();
+    }
+
+    public Report run(int clients, Duration warmup, Duration duration) throws InterruptedException {
+        try (HttpClient http = HttpClient.newHttpClient()) {
+            drive(http, clients, warmup, new Report(scenarios));
+            Report report = new Report(scenarios);
+            long start = System.nanoTime();
+            drive(http, clients, duration, report);
+            report.elapsedNanos = System.nanoTime() - start;
+            return report;
+        }
+    }
+
+    private void drive(HttpClient http, int clients, Duration duration, Report report) throws InterruptedException {
+        long deadline = System.nanoTime() + duration.toNanos();
+        ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+        for (int c = 0; c < clients; c++) {
+            Random random = new Random(c);
+            executor.submit(() -> {
+                Map<String, String> etags = new HashMap<>();
+                while (System.nanoTime() < deadline) {
+                    Scenario scenario = pick(random);
+                    Call call = scenario.request().apply(random);
+                    long began = System.nanoTime();
+                    int status;
+                    try {
+                        status = send(http, call, etags);
+                    } catch (IOException e) {
+                        status = -1;
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        return;
+                    }
+                    report.record(scenario.name(), System.nanoTime() - began, status);
+                }
+            });
+        }
+        executor.shutdown();
+        executor.awaitTermination(duration.toSeconds() + 120, java.util.concurrent.TimeUnit.SECONDS);
+    }
+
+    private Scenario pick(Random random) {
+        int roll = random.nextInt(totalWeight);
+        for (Scenario scenario : scenarios) {
+            roll -= scenario.weight();
+            if (roll < 0) {
+                return scenario;
+            }
+        }
+        throw new IllegalStateException();
+    }
+
+    private int send(HttpClient http, Call call, Map<String, String> etags) throws IOException, InterruptedException {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(baseUri + call.path()));
+        if (call.jsonBody() != null) {
+            builder.header("Content-Type", "application/json")
+                    .method(call.method(), HttpRequest.BodyPublishers.ofString(call.jsonBody()));
+        } else {
+            builder.method(call.method(), HttpRequest.BodyPublishers.noBody());
+        }
+        String etag = etags.get(call.path());
+        if (etag != null && call.method().equals("GET")) {
+            builder.header("If-None-Match", etag);
+        }
+        HttpResponse<Void> response = http.send(builder.build(), HttpResponse.BodyHandlers.discarding());
+        if (call.method().equals("GET")) {
+            response.headers().firstValue("ETag").ifPresent(value -> etags.put(call.path(), value));
+        }
+        return response.statusCode();
+    }
+
+    public static class Report {
+        private final Map<String, Samples> byScenario = new LinkedHashMap<>();
+        private long elapsedNanos;
+
+        Report(List<Scenario> scenarios) {
+            for (Scenario scenario : scenarios) {
+                byScenario.put(scenario.name(), new Samples());
+            }
+        }
+
+        void record(String scenario, long nanos, int status) {
+            byScenario.get(scenario).add(nanos, status);
+        }
+
+        public long errors() {
+            return byScenario.values().stream().mapToLong(samples -> samples.errors).sum();
+        }
+
+        public long requests() {
+            return byScenario.values().stream().mapToLong(samples -> samples.count).sum();
+        }
+
+        public void print(PrintStream out) {
+            double seconds = elapsedNanos / 1e9;
+            out.printf("%n%-34s %8s %9s %6s %6s %9s %9s %9s%n",
+                    "endpoint", "requests", "req/s", "304s", "errors", "p50 ms", "p95 ms", "p99 ms");
+            for (Map.Entry<String, Samples> entry : byScenario.entrySet()) {
+                Samples samples = entry.getValue().sorted();
+                out.printf("%-34s %8d %9.1f %6d %6d %9.2f %9.2f %9.2f%n", entry.getKey(), samples.count,
+                        samples.count / seconds, samples.notModified, samples.errors,
+                        samples.percentile(0.50), samples.percentile(0.95), samples.percentile(0.99));
+            }
+            out.printf("%-34s %8d %9.1f%n", "total", requests(), requests() / seconds);
+        }
+
+        public void writeCsv(Path file) {
+            try {
+                Files.createDirectories(file.getParent());
+                try (Writer writer = Files.newBufferedWriter(file)) {
+                    writer.write("endpoint,requests,throughput,not_modified,errors,p50_ms,p95_ms,p99_ms\n");
+                    double seconds = elapsedNanos / 1e9;
+                    for (Map.Entry<String, Samples> entry : byScenario.entrySet()) {
+                        Samples samples = entry.getValue().sorted();
+                        writer.write(String.format("%s,%d,%.1f,%d,%d,%.2f,%.2f,%.2f%n", entry.getKey(), samples.count,
+                                samples.count / seconds, samples.notModified, samples.errors,
+                                samples.percentile(0.50), samples.percentile(0.95), samples.percentile(0.99)));
+                    }
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
+    private static class Samples {
+        private long[] nanos = new long[1024];
+        private int count;
+        private long notModified;
+        private long errors;
+
+        synchronized void add(long value, int status) {
+            if (count == nanos.length) {
+                nanos = Arrays.copyOf(nanos, count * 2);
+            }
+            nanos[count++] = value;
+            if (status == 304) {
+                notModified++;
+            } else if (status < 200 || status >= 400) {
+                errors++;
+            }
+        }
+
+        synchronized Samples sorted() {
+            Arrays.sort(nanos, 0, count);
+            return this;
+        }
+
+        double percentile(double p) {
+            if (count == 0) {
+                return 0;
+            }
+            return nanos[(int) Math.min(count - 1, Math.ceil(p * count) - 1)] / 1e6;
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.application.backend.support;
+
+import com.application.backend.jpa.QueryInspector;
+import com.application.backend.jpa.QueryStats;
+
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Pins a call to a maximum number of Hibernate statements. The failure
+ * message lists the statement shapes that were issued.
+ */
+public final class QueryBudget {
+
+    private QueryBudget() {}
+
+    public static <T> T assertAtMost(int maxStatements, Supplier<T> call) {
+        QueryStats stats = QueryInspector.begin();
+        T result;
+        try {
+            result = call.get();
+        } finally {
+            QueryInspector.end(stats);
+        }
+        assertTrue(stats.getStatements() <= maxStatements, () -> "Expected at most " + maxStatements
+                + " statements but " + stats.getStatements() + " were issued:" + stats.describe(10));
+        return result;
+    }
+
+    public static QueryStats measure(Runnable call) {
+        return QueryInspector.capture(call);
+    }
+}